@@ -0,0 +1,137 @@
+package com.purbon.kafka.topology.benchmarks;
+
+import com.purbon.kafka.topology.AccessControlManager;
+import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.BackendController;
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.ExecutionPlan;
+import com.purbon.kafka.topology.backend.Backend;
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.model.PlanMap;
+import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.roles.acls.AclsBindingsBuilder;
+import com.purbon.kafka.topology.serdes.TopologySerdes;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Plan the acls of a synthetic topology against a state holding the given number of bindings.
+ * Neither the provider nor the backend reach a cluster, so only the planning itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AccessControlManagerBenchmark {
+
+  @Param({"100", "500"})
+  public int projects;
+
+  @Param({"20"})
+  public int topicsPerProject;
+
+  @Param({"10000", "50000"})
+  public int stateBindings;
+
+  private AccessControlManager manager;
+  private BackendController backendController;
+  private Map<String, Topology> topologies;
+  private PrintStream output;
+  private ExecutionPlan plan;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Configuration config = BenchmarkConfiguration.build();
+    manager =
+        new AccessControlManager(
+            new InMemoryAccessControlProvider(), new AclsBindingsBuilder(config), config);
+    backendController =
+        new BackendController(new InMemoryBackend(SyntheticTopology.state(stateBindings)));
+    Topology topology =
+        new TopologySerdes(config, new PlanMap())
+            .deserialise(SyntheticTopology.descriptor(projects, topicsPerProject));
+    topologies = new HashMap<>();
+    topologies.put(topology.getContext(), topology);
+    output = new PrintStream(OutputStream.nullOutputStream());
+  }
+
+  @Setup(Level.Invocation)
+  public void newPlan() throws IOException {
+    plan = ExecutionPlan.init(backendController, output);
+  }
+
+  @Benchmark
+  public ExecutionPlan updatePlan() throws IOException {
+    manager.updatePlan(plan, topologies);
+    return plan;
+  }
+
+  /** Keeps the bindings in memory instead of talking to a cluster. */
+  static class InMemoryAccessControlProvider implements AccessControlProvider {
+
+    private final Set<TopologyAclBinding> bindings = new HashSet<>();
+
+    @Override
+    public void createBindings(Set<TopologyAclBinding> bindings) {
+      this.bindings.addAll(bindings);
+    }
+
+    @Override
+    public void clearBindings(Set<TopologyAclBinding> bindings) {
+      this.bindings.removeAll(bindings);
+    }
+
+    @Override
+    public Map<String, List<TopologyAclBinding>> listAcls() {
+      Map<String, List<TopologyAclBinding>> acls = new HashMap<>();
+      for (TopologyAclBinding binding : bindings) {
+        acls.computeIfAbsent(binding.getResourceName(), k -> new ArrayList<>()).add(binding);
+      }
+      return acls;
+    }
+  }
+
+  /** Serves a fixed state, saving is ignored. */
+  static class InMemoryBackend implements Backend {
+
+    private final BackendState state;
+
+    InMemoryBackend(BackendState state) {
+      this.state = state;
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void save(BackendState state) {}
+
+    @Override
+    public BackendState load() {
+      return state;
+    }
+  }
+}
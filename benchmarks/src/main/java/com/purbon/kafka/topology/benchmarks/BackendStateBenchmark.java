@@ -0,0 +1,65 @@
+package com.purbon.kafka.topology.benchmarks;
+
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.backend.BackendStateCodec;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.record.CompressionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BackendStateBenchmark {
+
+  @Param({"1000", "50000"})
+  public int bindings;
+
+  private BackendState state;
+  private String json;
+  private BackendStateCodec binaryCodec;
+  private byte[] binary;
+
+  @Setup
+  public void setup() throws IOException {
+    state = SyntheticTopology.state(bindings);
+    json = state.asJson();
+    binaryCodec =
+        new BackendStateCodec(BackendStateCodec.Format.BINARY, CompressionType.ZSTD, false);
+    binary = binaryCodec.encode(state);
+  }
+
+  @Benchmark
+  public String toJson() throws IOException {
+    return state.asJson();
+  }
+
+  @Benchmark
+  public Object fromJson() throws IOException {
+    return JSON.toObject(json, BackendState.class);
+  }
+
+  @Benchmark
+  public byte[] toBinary() throws IOException {
+    return binaryCodec.encode(state);
+  }
+
+  @Benchmark
+  public BackendState fromBinary() throws IOException {
+    return BackendStateCodec.decode(binary);
+  }
+}
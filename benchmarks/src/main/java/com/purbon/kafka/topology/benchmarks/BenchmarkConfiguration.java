@@ -0,0 +1,23 @@
+package com.purbon.kafka.topology.benchmarks;
+
+import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+
+import com.purbon.kafka.topology.Configuration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+final class BenchmarkConfiguration {
+
+  private BenchmarkConfiguration() {}
+
+  static Configuration build(Properties props) {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "localhost:9092");
+    return new Configuration(cliOps, props);
+  }
+
+  static Configuration build() {
+    return build(new Properties());
+  }
+}
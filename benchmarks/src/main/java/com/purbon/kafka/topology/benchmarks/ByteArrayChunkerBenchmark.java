@@ -0,0 +1,54 @@
+package com.purbon.kafka.topology.benchmarks;
+
+import com.purbon.kafka.topology.backend.kafka.ByteArrayChunker;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ByteArrayChunkerBenchmark {
+
+  @Param({"1000000", "50000000"})
+  public int size;
+
+  @Param({"500000"})
+  public int chunkSize;
+
+  private ByteArrayChunker chunker;
+  private byte[] bytes;
+  private List<byte[]> chunks;
+
+  @Setup
+  public void setup() {
+    chunker = new ByteArrayChunker(chunkSize);
+    bytes = new byte[size];
+    new Random(42).nextBytes(bytes);
+    chunks = chunker.chunk(bytes);
+  }
+
+  @Benchmark
+  public List<byte[]> chunk() {
+    return chunker.chunk(bytes);
+  }
+
+  @Benchmark
+  public byte[] dechunk() {
+    return chunker.dechunk(chunks);
+  }
+}
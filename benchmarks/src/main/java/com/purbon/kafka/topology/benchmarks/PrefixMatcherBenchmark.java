@@ -0,0 +1,66 @@
+package com.purbon.kafka.topology.benchmarks;
+
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Compare the sorted prefix matcher with the linear scan it replaced. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PrefixMatcherBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int prefixes;
+
+  @Param({"100000"})
+  public int names;
+
+  private List<String> prefixList;
+  private PrefixMatcher matcher;
+  private List<String> candidates;
+
+  @Setup
+  public void setup() {
+    prefixList = new ArrayList<>();
+    for (int i = 0; i < prefixes; i++) {
+      prefixList.add(SyntheticTopology.CONTEXT + ".source.project-" + i + ".");
+    }
+    matcher = new PrefixMatcher(prefixList);
+    candidates = new ArrayList<>();
+    for (TopologyAclBinding binding : SyntheticTopology.bindings(names)) {
+      candidates.add(binding.getResourceName());
+    }
+  }
+
+  @Benchmark
+  public void linearScan(Blackhole blackhole) {
+    for (String name : candidates) {
+      blackhole.consume(prefixList.isEmpty() || prefixList.stream().anyMatch(name::startsWith));
+    }
+  }
+
+  @Benchmark
+  public void prefixMatcher(Blackhole blackhole) {
+    for (String name : candidates) {
+      blackhole.consume(matcher.matches(name));
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.purbon.kafka.topology.benchmarks;
+
+import static com.purbon.kafka.topology.Constants.SERVICE_ACCOUNT_MANAGED_PREFIXES;
+import static com.purbon.kafka.topology.Constants.TOPIC_MANAGED_PREFIXES;
+
+import com.purbon.kafka.topology.roles.ResourceFilter;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResourceFilterBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int prefixes;
+
+  @Param({"10000"})
+  public int bindings;
+
+  private ResourceFilter filter;
+  private List<TopologyAclBinding> candidates;
+
+  @Setup
+  public void setup() {
+    Properties props = new Properties();
+    for (int i = 0; i < prefixes; i++) {
+      props.put(
+          String.format("%s.%d", TOPIC_MANAGED_PREFIXES, i),
+          SyntheticTopology.CONTEXT + ".source.project-" + i + ".");
+      props.put(String.format("%s.%d", SERVICE_ACCOUNT_MANAGED_PREFIXES, i), "User:app-" + i);
+    }
+    filter = new ResourceFilter(BenchmarkConfiguration.build(props));
+    candidates = SyntheticTopology.bindings(bindings);
+  }
+
+  @Benchmark
+  public void matchesManagedPrefixList(Blackhole blackhole) {
+    for (TopologyAclBinding binding : candidates) {
+      blackhole.consume(filter.matchesManagedPrefixList(binding));
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.purbon.kafka.topology.benchmarks;
+
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generate synthetic descriptors, bindings and states of a given size, so the benchmarks can show
+ * how the planning time scales with the size of the topology.
+ */
+public final class SyntheticTopology {
+
+  public static final String CONTEXT = "bench";
+
+  private SyntheticTopology() {}
+
+  /**
+   * A YAML descriptor with the given number of projects. Each project has its own topics, and a
+   * consumer, a producer and a streams application per topic.
+   */
+  public static String descriptor(int projects, int topicsPerProject) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("---\n");
+    sb.append("context: \"").append(CONTEXT).append("\"\n");
+    sb.append("source: \"source\"\n");
+    sb.append("projects:\n");
+    for (int p = 0; p < projects; p++) {
+      sb.append("  - name: \"").append(projectName(p)).append("\"\n");
+      sb.append("    consumers:\n");
+      for (int t = 0; t < topicsPerProject; t++) {
+        sb.append("      - principal: \"User:consumer-").append(p).append('-').append(t);
+        sb.append("\"\n");
+      }
+      sb.append("    producers:\n");
+      for (int t = 0; t < topicsPerProject; t++) {
+        sb.append("      - principal: \"User:producer-").append(p).append('-').append(t);
+        sb.append("\"\n");
+      }
+      sb.append("    streams:\n");
+      sb.append("      - principal: \"User:streams-").append(p).append("\"\n");
+      sb.append("        topics:\n");
+      sb.append("          read:\n");
+      sb.append("            - \"").append(topicName(0)).append("\"\n");
+      sb.append("          write:\n");
+      sb.append("            - \"").append(topicName(topicsPerProject - 1)).append("\"\n");
+      sb.append("    topics:\n");
+      for (int t = 0; t < topicsPerProject; t++) {
+        sb.append("      - name: \"").append(topicName(t)).append("\"\n");
+        sb.append("        config:\n");
+        sb.append("          replication.factor: \"3\"\n");
+        sb.append("          num.partitions: \"").append(1 + t % 12).append("\"\n");
+      }
+    }
+    return sb.toString();
+  }
+
+  /** Bindings as produced for the topics of the synthetic descriptors. */
+  public static List<TopologyAclBinding> bindings(int count) {
+    List<TopologyAclBinding> bindings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String resourceName = CONTEXT + ".source." + projectName(i / 100) + "." + topicName(i % 100);
+      bindings.add(
+          TopologyAclBinding.build(
+              i % 3 == 0 ? "GROUP" : "TOPIC",
+              resourceName,
+              "*",
+              i % 2 == 0 ? "READ" : "WRITE",
+              "User:app-" + (i % 500),
+              "LITERAL",
+              "ALLOW"));
+    }
+    return bindings;
+  }
+
+  public static BackendState state(int bindings) {
+    BackendState state = new BackendState();
+    List<TopologyAclBinding> generated = bindings(bindings);
+    state.addBindings(generated);
+    List<String> topics = new ArrayList<>();
+    generated.forEach(binding -> topics.add(binding.getResourceName()));
+    state.addTopics(topics);
+    return state;
+  }
+
+  private static String projectName(int index) {
+    return "project-" + index;
+  }
+
+  private static String topicName(int index) {
+    return "topic-" + index;
+  }
+}
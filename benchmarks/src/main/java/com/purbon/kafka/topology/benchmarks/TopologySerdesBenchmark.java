@@ -0,0 +1,46 @@
+package com.purbon.kafka.topology.benchmarks;
+
+import com.purbon.kafka.topology.model.PlanMap;
+import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.serdes.TopologySerdes;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TopologySerdesBenchmark {
+
+  @Param({"10", "100", "500"})
+  public int projects;
+
+  @Param({"20"})
+  public int topicsPerProject;
+
+  private TopologySerdes parser;
+  private String descriptor;
+
+  @Setup
+  public void setup() {
+    parser = new TopologySerdes(BenchmarkConfiguration.build(), new PlanMap());
+    descriptor = SyntheticTopology.descriptor(projects, topicsPerProject);
+  }
+
+  @Benchmark
+  public Topology deserialise() {
+    return parser.deserialise(descriptor);
+  }
+}
@@ -6,6 +6,7 @@ import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.User;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.serviceAccounts.VoidPrincipalProvider;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
@@ -20,14 +21,26 @@ import org.apache.logging.log4j.Logger;
 abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
 
   private static final Logger LOGGER = LogManager.getLogger(AbstractPrincipalManager.class);
-  private final List<String> managedPrefixes;
+  private static final String SERVICE_ACCOUNTS = "service-accounts";
+  private final PrefixMatcher managedPrefixes;
   protected PrincipalProvider provider;
   protected Configuration config;
+  private ClusterStateSnapshot clusterState;
 
   public AbstractPrincipalManager(PrincipalProvider provider, Configuration config) {
     this.provider = provider;
     this.config = config;
-    this.managedPrefixes = config.getServiceAccountManagedPrefixes();
+    this.managedPrefixes = new PrefixMatcher(config.getServiceAccountManagedPrefixes());
+  }
+
+  @Override
+  public void useClusterState(ClusterStateSnapshot clusterState) {
+    // not prefetched, the provider must be configured before listing the accounts
+    this.clusterState = clusterState;
+  }
+
+  private ClusterStateSnapshot clusterState() {
+    return clusterState != null ? clusterState : new ClusterStateSnapshot();
   }
 
   @Override
@@ -61,7 +74,7 @@ abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
       throws IOException {
     Set<ServiceAccount> accounts =
         config.fetchStateFromTheCluster()
-            ? provider.listServiceAccounts()
+            ? clusterState().get(SERVICE_ACCOUNTS, provider::listServiceAccounts)
             : plan.getServiceAccounts();
     return accounts.stream()
         .filter(serviceAccount -> matchesPrefixList(serviceAccount.getName()))
@@ -69,10 +82,8 @@ abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
   }
 
   private boolean matchesPrefixList(String principal) {
-    boolean matches =
-        managedPrefixes.isEmpty() || managedPrefixes.stream().anyMatch(principal::startsWith);
-    LOGGER.debug(
-        String.format("Principal %s matches %s with %s", principal, matches, managedPrefixes));
+    boolean matches = managedPrefixes.matches(principal);
+    LOGGER.debug("Principal {} matches {} with {}", principal, matches, managedPrefixes);
     return matches;
   }
 
@@ -105,6 +116,6 @@ abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
   @Override
   public final void printCurrentState(PrintStream out) throws IOException {
     out.println("List of Principals: ");
-    provider.listServiceAccounts().forEach(out::println);
+    clusterState().get(SERVICE_ACCOUNTS, provider::listServiceAccounts).forEach(out::println);
   }
 }
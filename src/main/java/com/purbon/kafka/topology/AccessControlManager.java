@@ -9,6 +9,7 @@ import com.purbon.kafka.topology.exceptions.RemoteValidationException;
 import com.purbon.kafka.topology.model.*;
 import com.purbon.kafka.topology.model.users.*;
 import com.purbon.kafka.topology.model.users.platform.*;
+import com.purbon.kafka.topology.roles.AclBindingsDiff;
 import com.purbon.kafka.topology.roles.ResourceFilter;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
@@ -23,11 +24,15 @@ public class AccessControlManager implements ExecutionPlanUpdater {
 
   private static final Logger LOGGER = LogManager.getLogger(AccessControlManager.class);
 
+  private static final String ACLS = "acls";
+
   private final Configuration config;
   private final JulieRoles julieRoles;
   private AccessControlProvider controlProvider;
   private BindingsBuilderProvider bindingsBuilder;
   private final ResourceFilter resourceFilter;
+  private ClusterStateSnapshot clusterState;
+  private PlanScope scope = PlanScope.all();
 
   public AccessControlManager(
       AccessControlProvider controlProvider, BindingsBuilderProvider builderProvider) {
@@ -53,9 +58,29 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     this.resourceFilter = new ResourceFilter(config);
   }
 
+  @Override
+  public void useClusterState(ClusterStateSnapshot clusterState) {
+    this.clusterState = clusterState;
+    if (clusterState != null
+        && (config.fetchStateFromTheCluster()
+            || (config.shouldVerifyRemoteState() && config.isAllowDeleteTopics()))) {
+      clusterState.prefetch(ACLS, controlProvider::listAcls);
+    }
+  }
+
+  @Override
+  public void useScope(PlanScope scope) {
+    this.scope = scope;
+  }
+
+  private ClusterStateSnapshot clusterState() {
+    return clusterState != null ? clusterState : new ClusterStateSnapshot();
+  }
+
   @Override
   public void updatePlan(ExecutionPlan plan, final Map<String, Topology> topologies)
       throws IOException {
+    ClusterStateSnapshot clusterState = clusterState();
     List<AclBindingsResult> aclBindingsResults = new ArrayList<>();
     for (Topology topology : topologies.values()) {
       julieRoles.validateTopology(topology);
@@ -63,37 +88,35 @@ public class AccessControlManager implements ExecutionPlanUpdater {
       aclBindingsResults.addAll(buildPlatformLevelActions(topology));
       aclBindingsResults.addAll(buildSpecialTopicsAcls(topology));
     }
-    buildUpdateBindingsActions(aclBindingsResults, loadActualClusterStateIfAvailable(plan))
+    buildUpdateBindingsActions(
+            aclBindingsResults, loadActualClusterStateIfAvailable(plan, clusterState))
         .forEach(plan::add);
   }
 
-  private Set<TopologyAclBinding> loadActualClusterStateIfAvailable(ExecutionPlan plan)
-      throws IOException {
-    Set<TopologyAclBinding> bindings =
-        config.fetchStateFromTheCluster() ? providerBindings() : plan.getBindings();
-    var currentState =
-        bindings.stream()
-            .filter(resourceFilter::matchesManagedPrefixList)
-            .filter(this::isNotInternalAcl)
-            .collect(Collectors.toSet());
+  private Set<TopologyAclBinding> loadActualClusterStateIfAvailable(
+      ExecutionPlan plan, ClusterStateSnapshot clusterState) throws IOException {
+    Set<TopologyAclBinding> currentState =
+        config.fetchStateFromTheCluster()
+            ? providerBindings(clusterState)
+            : plan.getBindings();
     if (!config.shouldVerifyRemoteState()) {
       OnceOnlyWarningLogger.getInstance().logRemoteStateVerificationDisabledWarning();
     }
     if (config.shouldVerifyRemoteState() && !config.fetchStateFromTheCluster()) {
       // should detect if there are divergences between the local cluster state and the current
       // status in the cluster
-      detectDivergencesInTheRemoteCluster(plan);
+      detectDivergencesInTheRemoteCluster(plan, clusterState);
     }
     return currentState;
   }
 
-  private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan)
-      throws RemoteValidationException {
+  private void detectDivergencesInTheRemoteCluster(
+      ExecutionPlan plan, ClusterStateSnapshot clusterState) throws IOException {
     if (!config.isAllowDeleteTopics()) {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    var remoteAcls = providerBindings();
+    var remoteAcls = providerBindings(clusterState);
     var delta =
         plan.getBindings().stream()
             .filter(acl -> !remoteAcls.contains(acl))
@@ -108,14 +131,19 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     }
   }
 
+  private boolean isManagedAndNotInternal(TopologyAclBinding binding) {
+    return resourceFilter.matchesManagedPrefixList(binding) && isNotInternalAcl(binding);
+  }
+
   private boolean isNotInternalAcl(TopologyAclBinding binding) {
     Optional<String> internalPrincipal = config.getInternalPrincipalOptional();
     return internalPrincipal.map(i -> !binding.getPrincipal().equals(i)).orElse(true);
   }
 
-  private Set<TopologyAclBinding> providerBindings() {
+  private Set<TopologyAclBinding> providerBindings(ClusterStateSnapshot clusterState)
+      throws IOException {
     Set<TopologyAclBinding> bindings = new HashSet<>();
-    controlProvider.listAcls().values().forEach(bindings::addAll);
+    clusterState.get(ACLS, controlProvider::listAcls).values().forEach(bindings::addAll);
     return bindings;
   }
 
@@ -244,7 +272,8 @@ public class AccessControlManager implements ExecutionPlanUpdater {
    * Build a list of actions required to create or delete necessary bindings
    *
    * @param aclBindingsResults List of pre-computed actions based on a topology
-   * @param bindings List of current bindings available in the cluster
+   * @param bindings List of current bindings available in the cluster, only the managed and not
+   *     internal ones are taken into account
    * @return List<Action> list of actions necessary to update the cluster
    */
   private List<Action> buildUpdateBindingsActions(
@@ -262,33 +291,29 @@ public class AccessControlManager implements ExecutionPlanUpdater {
       }
       throw new IOException(errorMessages.getFirst());
     }
-    Set<TopologyAclBinding> allFinalBindings =
-        aclBindingsResults.stream()
-            .flatMap(aboe -> aboe.getAclBindings().stream())
-            .collect(Collectors.toSet());
-    Set<TopologyAclBinding> bindingsToBeCreated =
-        allFinalBindings.stream()
-            .filter(Objects::nonNull)
+    AclBindingsDiff diff =
+        AclBindingsDiff.compute(
+            aclBindingsResults.stream().flatMap(aboe -> aboe.getAclBindings().stream()),
+            bindings,
+            this::isManagedAndNotInternal,
             // Only create what we manage
-            .filter(resourceFilter::matchesManagedPrefixList)
-            // Diff of bindings, so we only create what is not already created in the cluster.
-            .filter(binding -> !bindings.contains(binding))
-            .collect(Collectors.toSet());
-    if (!bindingsToBeCreated.isEmpty()) {
-      CreateBindings createBindings = new CreateBindings(controlProvider, bindingsToBeCreated);
-      updateActions.add(createBindings);
+            resourceFilter::matchesManagedPrefixList);
+    LOGGER.debug(
+        "ACL bindings: {} to create, {} to delete, {} unchanged",
+        diff.getToCreate().size(),
+        diff.getToDelete().size(),
+        diff.getUnchanged());
+    if (!diff.getToCreate().isEmpty()) {
+      updateActions.add(new CreateBindings(controlProvider, diff.getToCreate()));
     }
-    if (config.isAllowDeleteBindings()) {
-      // clear acls that does not appear anymore in the new generated list,
-      // but where previously created
-      Set<TopologyAclBinding> bindingsToDelete =
-          bindings.stream()
-              .filter(binding -> !allFinalBindings.contains(binding))
-              .collect(Collectors.toSet());
-      if (!bindingsToDelete.isEmpty()) {
-        ClearBindings clearBindings = new ClearBindings(controlProvider, bindingsToDelete);
-        updateActions.add(clearBindings);
-      }
+    // clear acls that does not appear anymore in the new generated list,
+    // but where previously created
+    List<TopologyAclBinding> toDelete =
+        diff.getToDelete().stream()
+            .filter(binding -> scope.covers(binding.getResourceName()))
+            .toList();
+    if (config.isAllowDeleteBindings() && !toDelete.isEmpty()) {
+      updateActions.add(new ClearBindings(controlProvider, toDelete));
     }
     return updateActions;
   }
@@ -328,10 +353,10 @@ public class AccessControlManager implements ExecutionPlanUpdater {
   }
 
   @Override
-  public void printCurrentState(PrintStream out) {
+  public void printCurrentState(PrintStream out) throws IOException {
     out.println("List of ACLs: ");
-    controlProvider
-        .listAcls()
+    clusterState()
+        .get(ACLS, controlProvider::listAcls)
         .forEach(
             (topic, aclBindings) -> {
               out.println(topic);
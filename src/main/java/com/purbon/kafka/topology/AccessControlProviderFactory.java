@@ -3,6 +3,7 @@ package com.purbon.kafka.topology;
 import static com.purbon.kafka.topology.Constants.*;
 
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountsCache;
 import com.purbon.kafka.topology.roles.CCloudAclsProvider;
 import com.purbon.kafka.topology.roles.HybridCCloudAclsProvider;
 import com.purbon.kafka.topology.roles.SimpleAclsProvider;
@@ -14,11 +15,24 @@ public class AccessControlProviderFactory {
 
   private final Configuration config;
   private final TopologyBuilderAdminClient builderAdminClient;
+  private final ServiceAccountsCache serviceAccounts;
 
   public AccessControlProviderFactory(
       Configuration config, TopologyBuilderAdminClient builderAdminClient) {
+    this(config, builderAdminClient, null);
+  }
+
+  /**
+   * @param serviceAccounts cache shared with the principal provider, or null to give the Confluent
+   *     Cloud providers a cache of their own
+   */
+  public AccessControlProviderFactory(
+      Configuration config,
+      TopologyBuilderAdminClient builderAdminClient,
+      ServiceAccountsCache serviceAccounts) {
     this.config = config;
     this.builderAdminClient = builderAdminClient;
+    this.serviceAccounts = serviceAccounts;
   }
 
   public AccessControlProvider get() throws IOException {
@@ -28,18 +42,13 @@ public class AccessControlProviderFactory {
       switch (accessControlClassName) {
         case ACCESS_CONTROL_DEFAULT_CLASS:
           Constructor<?> aclsProviderConstructor =
-              clazz.getConstructor(TopologyBuilderAdminClient.class);
-          return (SimpleAclsProvider) aclsProviderConstructor.newInstance(builderAdminClient);
-        case CONFLUENT_CLOUD_CONTROL_CLASS:
-          Constructor<?> ccloudProviderConstructor =
               clazz.getConstructor(TopologyBuilderAdminClient.class, Configuration.class);
-          return (CCloudAclsProvider)
-              ccloudProviderConstructor.newInstance(builderAdminClient, config);
+          return (SimpleAclsProvider)
+              aclsProviderConstructor.newInstance(builderAdminClient, config);
+        case CONFLUENT_CLOUD_CONTROL_CLASS:
+          return (CCloudAclsProvider) newCCloudProvider(clazz);
         case CONFLUENT_HYBRID_CLOUD_CONTROL_CLASS:
-          Constructor<?> hybridCcloudProviderConstructor =
-              clazz.getConstructor(TopologyBuilderAdminClient.class, Configuration.class);
-          return (HybridCCloudAclsProvider)
-              hybridCcloudProviderConstructor.newInstance(builderAdminClient, config);
+          return (HybridCCloudAclsProvider) newCCloudProvider(clazz);
         default:
           throw new IOException("Unknown access control provided. " + accessControlClassName);
       }
@@ -48,6 +57,25 @@ public class AccessControlProviderFactory {
     }
   }
 
+  private Object newCCloudProvider(Class<?> clazz) throws Exception {
+    if (serviceAccounts == null) {
+      return clazz
+          .getConstructor(TopologyBuilderAdminClient.class, Configuration.class)
+          .newInstance(builderAdminClient, config);
+    }
+    return clazz
+        .getConstructor(
+            TopologyBuilderAdminClient.class, Configuration.class, ServiceAccountsCache.class)
+        .newInstance(builderAdminClient, config, serviceAccounts);
+  }
+
+  /** Whether the configured access control reaches Confluent Cloud. */
+  public static boolean usesConfluentCloud(Configuration config) {
+    String accessControlClassName = config.getAccessControlClassName();
+    return accessControlClassName.equals(CONFLUENT_CLOUD_CONTROL_CLASS)
+        || accessControlClassName.equals(CONFLUENT_HYBRID_CLOUD_CONTROL_CLASS);
+  }
+
   public BindingsBuilderProvider builder() throws IOException {
     String accessControlClass = config.getAccessControlClassName();
     try {
@@ -0,0 +1,201 @@
+package com.purbon.kafka.topology;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.BaseAccessControlAction;
+import com.purbon.kafka.topology.actions.CreateArtefactAction;
+import com.purbon.kafka.topology.actions.DeleteArtefactAction;
+import com.purbon.kafka.topology.actions.SyncArtefactAction;
+import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
+import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
+import com.purbon.kafka.topology.actions.quotas.CreateQuotasAction;
+import com.purbon.kafka.topology.actions.quotas.DeleteQuotasAction;
+import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KsqlArtefact;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Dependencies between the actions of an execution plan. Every dependency points from an action
+ * to an action earlier in the plan, so the plan order is always a valid execution order and the
+ * graph has no cycles.
+ *
+ * <p>The rules encode the ordering the plan has always relied on: accounts are created before
+ * bindings, topics before their schemas and the artefacts using them, ksql artefacts keep their
+ * relative order (streams before the tables built on them) and principal deletes run last. Action
+ * types the graph does not know about act as a barrier.
+ */
+class ActionDependencyGraph {
+
+  private enum Kind {
+    CREATE_ACCOUNTS,
+    TOPIC,
+    SCHEMA,
+    BINDINGS,
+    ARTEFACT,
+    QUOTAS,
+    DELETE_ACCOUNTS,
+    OTHER
+  }
+
+  private final List<Action> actions;
+  private final List<Set<Integer>> dependencies;
+
+  ActionDependencyGraph(List<Action> actions) {
+    this.actions = new ArrayList<>(actions);
+    this.dependencies = new ArrayList<>();
+    computeDependencies();
+  }
+
+  int size() {
+    return actions.size();
+  }
+
+  Action get(int index) {
+    return actions.get(index);
+  }
+
+  /** Index of the actions that must complete before the action at the given index can run. */
+  Set<Integer> dependenciesOf(int index) {
+    return Collections.unmodifiableSet(dependencies.get(index));
+  }
+
+  /**
+   * Compute the dependencies in a single pass over the plan. Only the direct dependencies are
+   * kept, chained actions (bindings, quotas, ksql artefacts) depend on the previous action of the
+   * chain and not on every earlier one.
+   */
+  private void computeDependencies() {
+    int lastBarrier = -1;
+    int lastBindings = -1;
+    int lastQuotas = -1;
+    int lastKsqlArtefact = -1;
+    List<Integer> sinceLastBarrier = new ArrayList<>();
+    List<Integer> createAccounts = new ArrayList<>();
+    List<Integer> topicActions = new ArrayList<>();
+    Map<String, Integer> createdTopics = new HashMap<>();
+    Map<Artefact, Integer> lastArtefactAction = new HashMap<>();
+
+    for (int i = 0; i < actions.size(); i++) {
+      Action action = actions.get(i);
+      Set<Integer> deps = new TreeSet<>();
+      if (lastBarrier >= 0) {
+        deps.add(lastBarrier);
+      }
+      switch (kindOf(action)) {
+        case CREATE_ACCOUNTS:
+          createAccounts.add(i);
+          break;
+        case TOPIC:
+          topicActions.add(i);
+          if (action instanceof CreateTopicAction) {
+            createdTopics.put(((CreateTopicAction) action).getTopic(), i);
+          } else if (action instanceof CreateTopicsAction) {
+            for (String topic : ((CreateTopicsAction) action).getTopics()) {
+              createdTopics.put(topic, i);
+            }
+          }
+          break;
+        case SCHEMA:
+          Integer createTopic = createdTopics.get(((RegisterSchemaAction) action).getTopic());
+          if (createTopic != null) {
+            deps.add(createTopic);
+          }
+          break;
+        case BINDINGS:
+          deps.addAll(createAccounts);
+          addIfPresent(deps, lastBindings);
+          lastBindings = i;
+          break;
+        case QUOTAS:
+          deps.addAll(createAccounts);
+          addIfPresent(deps, lastQuotas);
+          lastQuotas = i;
+          break;
+        case ARTEFACT:
+          deps.addAll(createAccounts);
+          deps.addAll(topicActions);
+          addIfPresent(deps, lastBindings);
+          Artefact artefact = artefactOf(action);
+          if (artefact instanceof KsqlArtefact) {
+            addIfPresent(deps, lastKsqlArtefact);
+            lastKsqlArtefact = i;
+          } else {
+            Integer previous = lastArtefactAction.put(artefact, i);
+            if (previous != null) {
+              deps.add(previous);
+            }
+          }
+          break;
+        case DELETE_ACCOUNTS:
+          deps.addAll(sinceLastBarrier);
+          break;
+        default:
+          deps.addAll(sinceLastBarrier);
+          lastBarrier = i;
+          sinceLastBarrier.clear();
+          lastBindings = -1;
+          lastQuotas = -1;
+          lastKsqlArtefact = -1;
+          createAccounts.clear();
+          topicActions.clear();
+          createdTopics.clear();
+          lastArtefactAction.clear();
+          dependencies.add(deps);
+          continue;
+      }
+      sinceLastBarrier.add(i);
+      dependencies.add(deps);
+    }
+  }
+
+  private static void addIfPresent(Set<Integer> deps, int index) {
+    if (index >= 0) {
+      deps.add(index);
+    }
+  }
+
+  private static Artefact artefactOf(Action action) {
+    if (action instanceof CreateArtefactAction) {
+      return ((CreateArtefactAction) action).getArtefact();
+    } else if (action instanceof SyncArtefactAction) {
+      return ((SyncArtefactAction) action).getArtefact();
+    } else if (action instanceof DeleteArtefactAction) {
+      return ((DeleteArtefactAction) action).getArtefact();
+    }
+    return null;
+  }
+
+  private static Kind kindOf(Action action) {
+    if (action instanceof CreateAccounts) {
+      return Kind.CREATE_ACCOUNTS;
+    } else if (action instanceof ClearAccounts) {
+      return Kind.DELETE_ACCOUNTS;
+    } else if (action instanceof CreateTopicAction
+        || action instanceof CreateTopicsAction
+        || action instanceof UpdateTopicConfigAction
+        || action instanceof DeleteTopics) {
+      return Kind.TOPIC;
+    } else if (action instanceof RegisterSchemaAction) {
+      return Kind.SCHEMA;
+    } else if (action instanceof BaseAccessControlAction) {
+      return Kind.BINDINGS;
+    } else if (action instanceof CreateArtefactAction
+        || action instanceof SyncArtefactAction
+        || action instanceof DeleteArtefactAction) {
+      return Kind.ARTEFACT;
+    } else if (action instanceof CreateQuotasAction || action instanceof DeleteQuotasAction) {
+      return Kind.QUOTAS;
+    }
+    return Kind.OTHER;
+  }
+}
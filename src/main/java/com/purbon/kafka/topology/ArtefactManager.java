@@ -24,6 +24,8 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
   protected Map<String, ArtefactClient> clients;
   protected Configuration config;
   protected String topologyFileOrDir;
+  private ClusterStateSnapshot clusterState;
+  private PlanScope scope = PlanScope.all();
 
   public ArtefactManager(ArtefactClient client, Configuration config, String topologyFileOrDir) {
     this(Collections.singletonMap("default", client), config, topologyFileOrDir);
@@ -44,9 +46,39 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
         .orElse(false);
   }
 
+  @Override
+  public void useClusterState(ClusterStateSnapshot clusterState) {
+    this.clusterState = clusterState;
+    if (clusterState != null
+        && (config.fetchStateFromTheCluster()
+            || (config.shouldVerifyRemoteState() && config.isAllowDeleteTopics()))) {
+      clusterState.prefetch(clusterStateKey(), this::getClustersState);
+    }
+  }
+
+  @Override
+  public void useScope(PlanScope scope) {
+    this.scope = scope;
+  }
+
+  protected ClusterStateSnapshot clusterState() {
+    return clusterState != null ? clusterState : new ClusterStateSnapshot();
+  }
+
+  /** Artefacts currently in the cluster, as read in the given snapshot. */
+  protected Collection<? extends Artefact> readClustersState(ClusterStateSnapshot clusterState)
+      throws IOException {
+    return clusterState.get(clusterStateKey(), this::getClustersState);
+  }
+
+  private String clusterStateKey() {
+    return "artefacts." + getClass().getName();
+  }
+
   @Override
   public void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) throws IOException {
-    Collection<? extends Artefact> currentArtefacts = loadActualClusterStateIfAvailable(plan);
+    Collection<? extends Artefact> currentArtefacts =
+        loadActualClusterStateIfAvailable(plan, clusterState());
     Set<Artefact> artefacts = new HashSet<>();
     for (Topology topology : topologies.values()) {
       Set<? extends Artefact> entryArtefacts = parseNewArtefacts(topology);
@@ -84,7 +116,8 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
         artefacts.add(artefact);
       }
     }
-    if (isAllowDelete()) {
+    // artefacts are not named after their project, a partial plan can not tell which to delete
+    if (isAllowDelete() && !scope.isPartial()) {
       List<? extends Artefact> toBeDeleted = findArtefactsToBeDeleted(currentArtefacts, artefacts);
       if (!toBeDeleted.isEmpty()) {
         LOGGER.debug("Artefacts to be deleted: " + StringUtils.join(toBeDeleted, ","));
@@ -114,26 +147,28 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
     return clients.getOrDefault(artefact.getServerLabel(), defaultClient);
   }
 
-  protected Collection<? extends Artefact> loadActualClusterStateIfAvailable(ExecutionPlan plan)
-      throws IOException {
-    var currentState = config.fetchStateFromTheCluster() ? getClustersState() : getLocalState(plan);
+  protected Collection<? extends Artefact> loadActualClusterStateIfAvailable(
+      ExecutionPlan plan, ClusterStateSnapshot clusterState) throws IOException {
+    var currentState =
+        config.fetchStateFromTheCluster() ? readClustersState(clusterState) : getLocalState(plan);
     if (!config.shouldVerifyRemoteState()) {
       OnceOnlyWarningLogger.getInstance().logRemoteStateVerificationDisabledWarning();
     }
     if (config.shouldVerifyRemoteState() && !config.fetchStateFromTheCluster()) {
       // should detect if there are divergences between the local cluster state and the current
       // status in the cluster
-      detectDivergencesInTheRemoteCluster(plan);
+      detectDivergencesInTheRemoteCluster(plan, clusterState);
     }
     return currentState;
   }
 
-  private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan) throws IOException {
+  private void detectDivergencesInTheRemoteCluster(
+      ExecutionPlan plan, ClusterStateSnapshot clusterState) throws IOException {
     if (!config.isAllowDeleteTopics()) {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    var remoteArtefacts = getClustersState();
+    var remoteArtefacts = readClustersState(clusterState);
     var delta =
         getLocalState(plan).stream()
             .filter(localArtifact -> !remoteArtefacts.contains(localArtifact))
@@ -27,6 +27,8 @@ public class BackendController {
   private static final Logger LOGGER = LogManager.getLogger(BackendController.class);
   @Getter private final Backend backend;
   @Getter private BackendState state;
+  private boolean keepLoaded;
+  private boolean loaded;
 
   public BackendController() {
     this(new FileBackend());
@@ -91,17 +93,42 @@ public class BackendController {
     return state.getKSqlTables();
   }
 
+  /** Save the state, and close the backend unless the state is kept loaded. */
   public void flushAndClose() throws IOException {
+    flush();
+    if (!keepLoaded) {
+      backend.close();
+    }
+  }
+
+  public void flush() throws IOException {
     LOGGER.debug(String.format("Flush data from the backend at %s", backend.getClass()));
     backend.createOrOpen(Mode.TRUNCATE);
     backend.save(state);
+  }
+
+  public void close() {
     backend.close();
   }
 
   public void load() throws IOException {
+    if (keepLoaded && loaded) {
+      LOGGER.debug("Using the state kept in memory since the last load");
+      return;
+    }
     LOGGER.debug(String.format("Loading data from the backend at %s", backend.getClass()));
     backend.createOrOpen();
     state = backend.load();
+    loaded = true;
+  }
+
+  /**
+   * Keep the state in memory after the first load, the following loads reuse it instead of reading
+   * the backend again. Only valid while this process is the only one writing to the backend. The
+   * backend stays open after a flush, until {@link #close()}.
+   */
+  public void keepLoaded() {
+    this.keepLoaded = true;
   }
 
   public void reset() {
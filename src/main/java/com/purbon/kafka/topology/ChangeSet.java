@@ -0,0 +1,118 @@
+package com.purbon.kafka.topology;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Files changed between two revisions of the topology repository, one path per line as printed by
+ * git diff --name-only. Relative paths are resolved against a base directory, by default the top
+ * level directory of the git repository holding the topologies, as git prints them.
+ */
+public class ChangeSet {
+
+  private static final Logger LOGGER = LogManager.getLogger(ChangeSet.class);
+
+  private final Set<Path> paths;
+
+  public ChangeSet(Collection<Path> paths) {
+    this.paths =
+        paths.stream()
+            .map(ChangeSet::normalize)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  /** Read the listed paths, resolving the relative ones against the base directory. */
+  public static ChangeSet read(Path file, Path baseDirectory) throws IOException {
+    List<Path> paths;
+    try (Stream<String> lines = Files.lines(file)) {
+      paths =
+          lines
+              .map(String::trim)
+              .filter(line -> !line.isEmpty())
+              .map(baseDirectory::resolve)
+              .toList();
+    }
+    for (Path path : paths) {
+      if (!Files.exists(path)) {
+        // a removed file, or a list made relative to another directory
+        LOGGER.warn("The changed file {} does not exist below {}", path, baseDirectory);
+      }
+    }
+    return new ChangeSet(paths);
+  }
+
+  /**
+   * The top level directory of the git repository holding the topology file or directory, or the
+   * working directory when it is not in a git repository.
+   */
+  public static Path baseDirectory(String topologyFileOrDir) {
+    Path topologyPath = Paths.get(topologyFileOrDir).toAbsolutePath();
+    Path directory = Files.isDirectory(topologyPath) ? topologyPath : topologyPath.getParent();
+    Path workingDirectory = Paths.get("").toAbsolutePath();
+    try {
+      Process git =
+          new ProcessBuilder("git", "rev-parse", "--show-toplevel")
+              .directory(directory.toFile())
+              .redirectError(ProcessBuilder.Redirect.DISCARD)
+              .start();
+      String topLevel = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+      if (git.waitFor(10, TimeUnit.SECONDS) && git.exitValue() == 0 && !topLevel.isBlank()) {
+        return Paths.get(topLevel.trim());
+      }
+      git.destroy();
+    } catch (IOException e) {
+      LOGGER.debug("Could not run git to find the repository of the topologies", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    LOGGER.info(
+        "The topologies are not in a git repository, resolving the changed files against {}",
+        workingDirectory);
+    return workingDirectory;
+  }
+
+  /**
+   * The descriptors among the current ones that changed, in the order given. Empty when the change
+   * set can not be planned descriptor by descriptor: a changed file below the topology directory
+   * that is not a current descriptor is either a removed descriptor or a file a descriptor refers
+   * to, like a schema, and every descriptor has to be planned then. Changes outside of the topology
+   * directory are ignored.
+   */
+  public Optional<List<Path>> affectedDescriptors(
+      String topologyFileOrDir, List<Path> descriptors) {
+    Path topologyPath = Paths.get(topologyFileOrDir);
+    // schemas and artefacts are resolved from the directory of a single descriptor
+    Path root =
+        normalize(
+            Files.isDirectory(topologyPath)
+                ? topologyPath
+                : topologyPath.toAbsolutePath().getParent());
+    Set<Path> current = descriptors.stream().map(ChangeSet::normalize).collect(Collectors.toSet());
+    for (Path path : paths) {
+      if (!current.contains(path) && path.startsWith(root)) {
+        LOGGER.info(
+            "The changed file {} is not a topology descriptor, planning every descriptor", path);
+        return Optional.empty();
+      }
+    }
+    return Optional.of(
+        descriptors.stream().filter(descriptor -> paths.contains(normalize(descriptor))).toList());
+  }
+
+  private static Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+}
@@ -0,0 +1,105 @@
+package com.purbon.kafka.topology;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * State of the cluster as read by the {@link ExecutionPlanUpdater}s during a run. Every remote
+ * query is identified by a key and issued at most once, the result is shared by every updater
+ * asking for the same key. A concurrent snapshot starts the prefetched queries right away on its
+ * own threads, so the remote calls of the different updaters overlap, while a lazy snapshot only
+ * runs a query the first time its result is asked for.
+ */
+public class ClusterStateSnapshot implements AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger(ClusterStateSnapshot.class);
+
+  @FunctionalInterface
+  public interface Query<T> {
+    T fetch() throws IOException;
+  }
+
+  private final Map<String, CompletableFuture<Object>> results;
+  private final ExecutorService executor;
+
+  /** Create a lazy snapshot, queries run in the calling thread. */
+  public ClusterStateSnapshot() {
+    this(null);
+  }
+
+  private ClusterStateSnapshot(ExecutorService executor) {
+    this.results = new ConcurrentHashMap<>();
+    this.executor = executor;
+  }
+
+  /** Create a snapshot issuing the prefetched queries concurrently. */
+  public static ClusterStateSnapshot concurrent() {
+    return new ClusterStateSnapshot(Executors.newCachedThreadPool());
+  }
+
+  /** Start fetching a query in the background, when the snapshot is a concurrent one. */
+  public void prefetch(String key, Query<?> query) {
+    if (executor != null) {
+      start(key, query);
+    }
+  }
+
+  /** Result of the query for the key, waiting for it when it is still being fetched. */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key, Query<T> query) throws IOException {
+    try {
+      return (T) start(key, query).join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private CompletableFuture<Object> start(String key, Query<?> query) {
+    CompletableFuture<Object> result = new CompletableFuture<>();
+    CompletableFuture<Object> previous = results.putIfAbsent(key, result);
+    if (previous != null) {
+      return previous;
+    }
+    LOGGER.debug("Fetching {} from the cluster", key);
+    if (executor != null) {
+      try {
+        executor.execute(() -> complete(result, query));
+        return result;
+      } catch (RejectedExecutionException e) {
+        // the snapshot was closed, the query is not left pending for the next callers
+        LOGGER.debug("Snapshot closed, fetching {} in the calling thread", key);
+      }
+    }
+    complete(result, query);
+    return result;
+  }
+
+  private static void complete(CompletableFuture<Object> result, Query<?> query) {
+    try {
+      result.complete(query.fetch());
+    } catch (Exception e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+}
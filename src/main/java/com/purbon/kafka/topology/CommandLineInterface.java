@@ -31,6 +31,21 @@ public class CommandLineInterface {
   public static final String DRY_RUN_OPTION = "dryRun";
   public static final String DRY_RUN_DESC = "Print the execution plan without altering anything.";
 
+  public static final String CHANGED_FILES_OPTION = "changedFiles";
+  public static final String CHANGED_FILES_DESC =
+      "File listing the changed files, one per line as from git diff --name-only, relative to the"
+          + " top level of the git repository. Only the changed topology descriptors are planned,"
+          + " without altering anything.";
+
+  public static final String DAEMON_OPTION = "daemon";
+  public static final String DAEMON_DESC =
+      "Keep running and reconcile the changed topology descriptors on request.";
+
+  public static final String WATCH_OPTION = "watch";
+  public static final String WATCH_DESC =
+      "Keep running and plan the topology descriptors every time they change, without altering"
+          + " anything.";
+
   public static final String RECURSIVE_OPTION = "recursive";
   public static final String RECURSIVE_DESC =
       "Recursively look for topology files below the given directory.";
@@ -80,6 +95,9 @@ public class CommandLineInterface {
     options.addOption(requiredArgOption(CLIENT_CONFIG_OPTION, CLIENT_CONFIG_DESC));
     options.addOption(argOption(OVERRIDING_CLIENT_CONFIG_OPTION, OVERRIDING_CLIENT_CONFIG_DESC));
     options.addOption(noArgOption(DRY_RUN_OPTION, DRY_RUN_DESC));
+    options.addOption(argOption(CHANGED_FILES_OPTION, CHANGED_FILES_DESC));
+    options.addOption(noArgOption(DAEMON_OPTION, DAEMON_DESC));
+    options.addOption(noArgOption(WATCH_OPTION, WATCH_DESC));
     options.addOption(noArgOption(RECURSIVE_OPTION, RECURSIVE_DESC));
     options.addOption(
         noArgOption(DONT_WARN_FOR_READ_ONLY_STREAMS_OPTION, DONT_WARN_FOR_READ_ONLY_STREAMS_DESC));
@@ -127,9 +145,19 @@ public class CommandLineInterface {
     printHelpOrVersion(args);
     CommandLine cmd = parseArgsOrExit(args);
     Map<String, String> config = parseConfig(cmd);
+    if (cmd.hasOption(DAEMON_OPTION) || cmd.hasOption(WATCH_OPTION)) {
+      runDaemon(
+          cmd.getOptionValue(TOPOLOGY_OPTION),
+          cmd.getOptionValue(PLANS_OPTION, "default"),
+          config,
+          cmd.hasOption(WATCH_OPTION));
+      return;
+    }
     processTopology(
         cmd.getOptionValue(TOPOLOGY_OPTION), cmd.getOptionValue(PLANS_OPTION, "default"), config);
-    if (!cmd.hasOption(DRY_RUN_OPTION) && !cmd.hasOption(VALIDATE_OPTION)) {
+    if (!cmd.hasOption(DRY_RUN_OPTION)
+        && !cmd.hasOption(CHANGED_FILES_OPTION)
+        && !cmd.hasOption(VALIDATE_OPTION)) {
       System.out.println("Kafka Topology updated");
     }
   }
@@ -140,6 +168,10 @@ public class CommandLineInterface {
       config.put(BROKERS_OPTION, cmd.getOptionValue(BROKERS_OPTION));
     }
     config.put(DRY_RUN_OPTION, String.valueOf(cmd.hasOption(DRY_RUN_OPTION)));
+    if (cmd.hasOption(CHANGED_FILES_OPTION)) {
+      config.put(CHANGED_FILES_OPTION, cmd.getOptionValue(CHANGED_FILES_OPTION));
+    }
+    config.put(WATCH_OPTION, String.valueOf(cmd.hasOption(WATCH_OPTION)));
     config.put(RECURSIVE_OPTION, String.valueOf(cmd.hasOption(RECURSIVE_OPTION)));
     config.put(
         DONT_WARN_FOR_READ_ONLY_STREAMS_OPTION,
@@ -187,6 +219,21 @@ public class CommandLineInterface {
     }
   }
 
+  void runDaemon(
+      String topologyFile, String plansFile, Map<String, String> config, boolean watch)
+      throws Exception {
+    // the daemon finds the changed descriptors itself
+    config.remove(CHANGED_FILES_OPTION);
+    JulieOpsDaemon daemon = JulieOpsDaemon.build(topologyFile, plansFile, config);
+    // the only closer of the daemon, it runs on shutdown as well as when starting fails
+    Runtime.getRuntime().addShutdownHook(new Thread(daemon::close));
+    daemon.start();
+    if (watch) {
+      daemon.watch();
+    }
+    daemon.awaitTermination();
+  }
+
   void processTopology(String topologyFile, String plansFile, Map<String, String> config)
       throws Exception {
     try (JulieOps builder = JulieOps.build(topologyFile, plansFile, config)) {
@@ -4,6 +4,7 @@ import static com.purbon.kafka.topology.CommandLineInterface.*;
 import static com.purbon.kafka.topology.Constants.*;
 
 import com.purbon.kafka.topology.api.ksql.KsqlClientConfig;
+import com.purbon.kafka.topology.backend.BackendStateCodec;
 import com.purbon.kafka.topology.exceptions.ConfigurationException;
 import com.purbon.kafka.topology.model.JulieRoles;
 import com.purbon.kafka.topology.model.Project;
@@ -19,12 +20,15 @@ import com.typesafe.config.ConfigException;
 import com.typesafe.config.ConfigFactory;
 import java.io.File;
 import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.common.record.CompressionType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -231,6 +235,15 @@ public class Configuration {
     return getString(CONFLUENT_SCHEMA_REGISTRY_URL_CONFIG);
   }
 
+  public Integer getSchemaRegistryCacheCapacity() {
+    return config.getInt(JULIE_SCHEMAS_REGISTRY_CACHE_CAPACITY);
+  }
+
+  public Optional<Path> getSchemaFingerprintsFile() {
+    String file = getString(JULIE_SCHEMAS_FINGERPRINTS_FILE);
+    return file.isBlank() ? Optional.empty() : Optional.of(Paths.get(file));
+  }
+
   public String getConfluentMonitoringTopic() {
     return getString(CONFLUENT_MONITORING_TOPIC_CONFIG);
   }
@@ -251,6 +264,24 @@ public class Configuration {
     return getString(STATE_PROCESSOR_IMPLEMENTATION_CLASS);
   }
 
+  public BackendStateCodec.Format getStateFormat() {
+    String format = getString(STATE_FORMAT);
+    try {
+      return BackendStateCodec.Format.valueOf(format.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new ConfigurationException("Unknown state format " + format);
+    }
+  }
+
+  public CompressionType getStateCompression() {
+    String compression = getString(STATE_COMPRESSION);
+    try {
+      return CompressionType.forName(compression.toLowerCase());
+    } catch (IllegalArgumentException e) {
+      throw new ConfigurationException("Unknown state compression " + compression);
+    }
+  }
+
   public String getTopicPrefixFormat() {
     return getString(TOPIC_PREFIX_FORMAT_CONFIG);
   }
@@ -312,7 +343,20 @@ public class Configuration {
   }
 
   public boolean isDryRun() {
-    return Boolean.parseBoolean(cliParams.getOrDefault(DRY_RUN_OPTION, "false"));
+    // a plan of the changed descriptors only, or of files being edited, is never applied
+    return Boolean.parseBoolean(cliParams.getOrDefault(DRY_RUN_OPTION, "false"))
+        || getChangedFiles().isPresent()
+        || isWatching();
+  }
+
+  /** Whether the topology files are watched for changes, see the daemon. */
+  public boolean isWatching() {
+    return Boolean.parseBoolean(cliParams.getOrDefault(WATCH_OPTION, "false"));
+  }
+
+  /** The file listing the changed files, when only the changed descriptors are planned. */
+  public Optional<Path> getChangedFiles() {
+    return Optional.ofNullable(cliParams.get(CHANGED_FILES_OPTION)).map(Paths::get);
   }
 
   public boolean isRecursive() {
@@ -587,6 +631,14 @@ public class Configuration {
     return config.getInt(JULIE_KAFKA_STATE_CHUNK_SIZE);
   }
 
+  public Boolean isKafkaBackendDeltaEnabled() {
+    return config.getBoolean(JULIE_KAFKA_STATE_DELTA_ENABLED);
+  }
+
+  public Integer getKafkaBackendSnapshotInterval() {
+    return config.getInt(JULIE_KAFKA_STATE_SNAPSHOT_INTERVAL);
+  }
+
   public BasicAuth getConfluentCloudClusterAuth() {
     var user = getString(CCLOUD_CLUSTER_API_KEY);
     var pass = getString(CCLOUD_CLUSTER_API_SECRET);
@@ -615,6 +667,18 @@ public class Configuration {
     return config.getInt(CCLOUD_SA_ACCOUNT_QUERY_PAGE_SIZE);
   }
 
+  public Integer getConfluentCloudServiceAccountCacheTtlMs() {
+    return config.getInt(CCLOUD_SA_ACCOUNT_CACHE_TTL_MS);
+  }
+
+  public Integer getConfluentCloudAclsRequestsInFlight() {
+    return config.getInt(CCLOUD_ACLS_REQUESTS_IN_FLIGHT);
+  }
+
+  public Double getConfluentCloudAclsRequestsPerSecond() {
+    return config.getDouble(CCLOUD_ACLS_REQUESTS_PER_SECOND);
+  }
+
   public Boolean enabledPrincipalManagement() {
     return config.getBoolean(JULIE_ENABLE_PRINCIPAL_MANAGEMENT);
   }
@@ -647,6 +711,83 @@ public class Configuration {
     return config.getInt(JULIE_HTTP_BACKOFF_TIME_MS);
   }
 
+  public Integer getHttpMaxBackoffTimeMs() {
+    return config.getInt(JULIE_HTTP_MAX_BACKOFF_TIME_MS);
+  }
+
+  public Integer getHttpCircuitBreakerFailureThreshold() {
+    return config.getInt(JULIE_HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+  }
+
+  public Integer getHttpCircuitBreakerOpenTimeMs() {
+    return config.getInt(JULIE_HTTP_CIRCUIT_BREAKER_OPEN_TIME_MS);
+  }
+
+  public HttpClient.Version getHttpVersion() {
+    String version = getString(JULIE_HTTP_VERSION);
+    try {
+      return HttpClient.Version.valueOf(version.toUpperCase().replace('.', '_'));
+    } catch (IllegalArgumentException e) {
+      throw new ConfigurationException("Unknown http version " + version);
+    }
+  }
+
+  public Integer getHttpConnectTimeoutMs() {
+    return config.getInt(JULIE_HTTP_CONNECT_TIMEOUT_MS);
+  }
+
+  public Integer getHttpRequestTimeoutMs() {
+    return config.getInt(JULIE_HTTP_REQUEST_TIMEOUT_MS);
+  }
+
+  public Integer getTopicsSnapshotBatchSize() {
+    return config.getInt(JULIE_TOPICS_SNAPSHOT_BATCH_SIZE);
+  }
+
+  public Integer getTopicsCreateBatchSize() {
+    return config.getInt(JULIE_TOPICS_CREATE_BATCH_SIZE);
+  }
+
+  public Integer getAclsDeleteBatchSize() {
+    return config.getInt(JULIE_ACLS_DELETE_BATCH_SIZE);
+  }
+
+  public Integer getExecutionParallelism() {
+    return config.getInt(JULIE_EXECUTION_PARALLELISM);
+  }
+
+  public Integer getParsingParallelism() {
+    return config.getInt(JULIE_PARSING_PARALLELISM);
+  }
+
+  public Integer getPlanningParallelism() {
+    return config.getInt(JULIE_PLANNING_PARALLELISM);
+  }
+
+  public Integer getValidationParallelism() {
+    return config.getInt(JULIE_VALIDATION_PARALLELISM);
+  }
+
+  public Integer getDaemonPort() {
+    return config.getInt(JULIE_DAEMON_PORT);
+  }
+
+  public Integer getDaemonWatchDebounceMs() {
+    return config.getInt(JULIE_DAEMON_WATCH_DEBOUNCE_MS);
+  }
+
+  public Optional<String> getParsingCacheDir() {
+    try {
+      return Optional.of(getString(JULIE_PARSING_CACHE_DIR)).filter(dir -> !dir.isEmpty());
+    } catch (ConfigException.Missing missingEx) {
+      return Optional.empty();
+    }
+  }
+
+  public Integer getParsingCacheMaxEntries() {
+    return config.getInt(JULIE_PARSING_CACHE_MAX_ENTRIES);
+  }
+
   private String getString(String path) {
     return config.getString(path).strip().trim();
   }
@@ -19,6 +19,9 @@ public final class Constants {
   public static final String STATE_PROCESSOR_IMPLEMENTATION_CLASS =
       "topology.builder.state.processor.class";
 
+  public static final String STATE_FORMAT = "topology.builder.state.format";
+  public static final String STATE_COMPRESSION = "topology.builder.state.compression";
+
   public static final String STATE_PROCESSOR_DEFAULT_CLASS =
       "com.purbon.kafka.topology.backend.FileBackend";
 
@@ -86,6 +89,11 @@ public final class Constants {
   public static final String CCLOUD_SA_ACCOUNT_QUERY_PAGE_SIZE =
       "ccloud.service_account.query.page.size";
 
+  public static final String CCLOUD_SA_ACCOUNT_CACHE_TTL_MS = "ccloud.service_account.cache.ttl.ms";
+
+  public static final String CCLOUD_ACLS_REQUESTS_IN_FLIGHT = "ccloud.acls.requests.in.flight";
+  public static final String CCLOUD_ACLS_REQUESTS_PER_SECOND = "ccloud.acls.requests.per.second";
+
   public static final String TOPOLOGY_TOPIC_STATE_FROM_CLUSTER =
       "topology.state.topics.cluster.enabled";
 
@@ -160,6 +168,9 @@ public final class Constants {
   public static final String JULIE_KAFKA_STATE_CHUNK_SIZE = "julie.kafka.state.chunk.size";
   public static final String JULIE_KAFKA_STATE_CONSUMER_GROUP_ID =
       "julie.kafka.state.consumer.group.id";
+  public static final String JULIE_KAFKA_STATE_DELTA_ENABLED = "julie.kafka.state.delta.enabled";
+  public static final String JULIE_KAFKA_STATE_SNAPSHOT_INTERVAL =
+      "julie.kafka.state.snapshot.interval";
   public static final String JULIE_INSTANCE_ID = "julie.instance.id";
 
   public static final String MANAGED_BY = "Managed by JulieOps";
@@ -175,6 +186,31 @@ public final class Constants {
 
   public static final String JULIE_HTTP_RETRY_TIMES = "julie.http.retry.times";
   public static final String JULIE_HTTP_BACKOFF_TIME_MS = "julie.http.retry.backoff.time.ms";
+  public static final String JULIE_HTTP_MAX_BACKOFF_TIME_MS = "julie.http.retry.backoff.max.ms";
+  public static final String JULIE_HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD =
+      "julie.http.circuit.breaker.failure.threshold";
+  public static final String JULIE_HTTP_CIRCUIT_BREAKER_OPEN_TIME_MS =
+      "julie.http.circuit.breaker.open.ms";
+  public static final String JULIE_HTTP_VERSION = "julie.http.version";
+  public static final String JULIE_HTTP_CONNECT_TIMEOUT_MS = "julie.http.connect.timeout.ms";
+  public static final String JULIE_HTTP_REQUEST_TIMEOUT_MS = "julie.http.request.timeout.ms";
+
+  public static final String JULIE_SCHEMAS_REGISTRY_CACHE_CAPACITY =
+      "julie.schemas.registry.cache.capacity";
+  public static final String JULIE_SCHEMAS_FINGERPRINTS_FILE = "julie.schemas.fingerprints.file";
 
   public static final String JULIE_BACKUP_PRINCIPAL = "julie.backup.principal";
+
+  public static final String JULIE_TOPICS_SNAPSHOT_BATCH_SIZE = "julie.topics.snapshot.batch.size";
+  public static final String JULIE_TOPICS_CREATE_BATCH_SIZE = "julie.topics.create.batch.size";
+  public static final String JULIE_ACLS_DELETE_BATCH_SIZE = "julie.acls.delete.batch.size";
+
+  public static final String JULIE_EXECUTION_PARALLELISM = "julie.execution.parallelism";
+  public static final String JULIE_PARSING_PARALLELISM = "julie.parsing.parallelism";
+  public static final String JULIE_PLANNING_PARALLELISM = "julie.planning.parallelism";
+  public static final String JULIE_VALIDATION_PARALLELISM = "julie.validation.parallelism";
+  public static final String JULIE_PARSING_CACHE_DIR = "julie.parsing.cache.dir";
+  public static final String JULIE_PARSING_CACHE_MAX_ENTRIES = "julie.parsing.cache.max.entries";
+  public static final String JULIE_DAEMON_PORT = "julie.daemon.port";
+  public static final String JULIE_DAEMON_WATCH_DEBOUNCE_MS = "julie.daemon.watch.debounce.ms";
 }
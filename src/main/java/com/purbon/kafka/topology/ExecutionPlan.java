@@ -5,6 +5,7 @@ import com.purbon.kafka.topology.actions.access.ClearBindings;
 import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
 import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
 import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
 import com.purbon.kafka.topology.actions.topics.DeleteTopics;
 import com.purbon.kafka.topology.audit.Auditor;
 import com.purbon.kafka.topology.audit.VoidAuditor;
@@ -18,7 +19,12 @@ import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.utils.StreamUtils;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
@@ -66,10 +72,38 @@ public class ExecutionPlan {
     }
   }
 
+  private ExecutionPlan(ExecutionPlan parent) {
+    this.plan = Collections.synchronizedList(new LinkedList<>());
+    this.outputStream = parent.outputStream;
+    this.auditor = parent.auditor;
+    this.backendController = parent.backendController;
+    this.bindings = parent.bindings;
+    this.serviceAccounts = parent.serviceAccounts;
+    this.topics = parent.topics;
+    this.connectors = parent.connectors;
+    this.ksqlStreams = parent.ksqlStreams;
+    this.ksqlTables = parent.ksqlTables;
+  }
+
   public void add(Action action) {
     this.plan.add(action);
   }
 
+  /**
+   * A plan reading the same state as this one but collecting its own actions, so several updaters
+   * can plan concurrently. The actions are brought back with {@link #addAll(ExecutionPlan)}.
+   */
+  public ExecutionPlan fork() {
+    return new ExecutionPlan(this);
+  }
+
+  /** Append the actions of a forked plan, in their order. */
+  public void addAll(ExecutionPlan forked) {
+    synchronized (forked.plan) {
+      plan.addAll(forked.plan);
+    }
+  }
+
   public static ExecutionPlan init(BackendController backendController, PrintStream outputStream)
       throws IOException {
     return init(backendController, outputStream, new VoidAuditor());
@@ -83,18 +117,46 @@ public class ExecutionPlan {
     return new ExecutionPlan(listOfActions, outputStream, backendController, auditor);
   }
 
+  /**
+   * Merge adjacent topic creations into batched actions of at most maxBatchSize topics, so they
+   * are created with one request per batch. A batch size of one keeps the plan as it is.
+   */
+  public void coalesceCreateTopicActions(int maxBatchSize) {
+    if (maxBatchSize <= 1) {
+      return;
+    }
+    synchronized (plan) {
+      List<Action> coalesced = CreateTopicsAction.coalesce(plan, maxBatchSize);
+      plan.clear();
+      plan.addAll(coalesced);
+    }
+  }
+
   public void run() throws IOException {
     run(false);
   }
 
   public void run(boolean dryRun) throws IOException {
-    for (Action action : plan) {
-      try {
-        execute(action, dryRun);
-      } catch (IOException e) {
-        LOGGER.error(String.format("Something happen running action %s", action), e);
-        throw e;
+    run(dryRun, 1);
+  }
+
+  /**
+   * Run the plan. With a parallelism above one the actions are scheduled on a bounded pool
+   * following the dependencies of {@link ActionDependencyGraph}, independent actions run
+   * concurrently. Output, audit and state bookkeeping always follow the plan order.
+   */
+  public void run(boolean dryRun, int parallelism) throws IOException {
+    if (dryRun || parallelism <= 1) {
+      for (Action action : plan) {
+        try {
+          execute(action, dryRun);
+        } catch (IOException e) {
+          LOGGER.error(String.format("Something happen running action %s", action), e);
+          throw e;
+        }
       }
+    } else {
+      executeInParallel(parallelism);
     }
 
     if (!dryRun) {
@@ -111,76 +173,145 @@ public class ExecutionPlan {
 
   private void execute(Action action, boolean dryRun) throws IOException {
     LOGGER.debug(String.format("Execution action %s (dryRun=%s)", action, dryRun));
-    if (!action.toString().isEmpty()) {
-      outputStream.println(action);
-    }
+    print(action);
     if (!dryRun) {
       action.run();
-      auditor.log(action);
-      // TODO: a nicer and more clean version of this might be a cool thing to have, current version
-      // is shitty.
-      if (action instanceof CreateTopicAction) {
-        topics.add(((CreateTopicAction) action).getTopic());
-      } else if (action instanceof DeleteTopics) {
-        List<String> topicsToBeDeleted = ((DeleteTopics) action).getTopicsToBeDeleted();
-        topics =
-            new StreamUtils<>(topics.stream())
-                .filterAsSet(topic -> !topicsToBeDeleted.contains(topic));
+      record(action);
+    }
+  }
+
+  private void executeInParallel(int parallelism) throws IOException {
+    ActionDependencyGraph graph = new ActionDependencyGraph(plan);
+    List<CompletableFuture<Void>> futures = new ArrayList<>(graph.size());
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      for (int i = 0; i < graph.size(); i++) {
+        Action action = graph.get(i);
+        print(action);
+        CompletableFuture<?>[] dependencies =
+            graph.dependenciesOf(i).stream().map(futures::get).toArray(CompletableFuture[]::new);
+        futures.add(
+            CompletableFuture.allOf(dependencies).thenRunAsync(() -> runAction(action), executor));
       }
-      if (action instanceof BaseAccessControlAction
-          && !((BaseAccessControlAction) action).getAclBindings().isEmpty()) {
-        if (action instanceof ClearBindings) {
-          bindings =
-              new StreamUtils<>(bindings.stream())
-                  .filterAsSet(
-                      binding ->
-                          !((BaseAccessControlAction) action).getAclBindings().contains(binding));
-        } else {
-          bindings.addAll(((BaseAccessControlAction) action).getAclBindings());
-        }
+      try {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+      } catch (CompletionException e) {
+        // failures are reported below, in plan order
       }
-      if (action instanceof BaseAccountsAction) {
-        if (action instanceof ClearAccounts) {
-          Collection<ServiceAccount> toDeletePrincipals = ((ClearAccounts) action).getPrincipals();
-          serviceAccounts =
-              new StreamUtils<>(serviceAccounts.stream())
-                  .filterAsSet(sa -> !toDeletePrincipals.contains(sa));
-        } else {
-          CreateAccounts createAction = (CreateAccounts) action;
-          serviceAccounts.addAll(createAction.getPrincipals());
+    } finally {
+      executor.shutdown();
+    }
+
+    // The first failed action in plan order is always a real failure, as every action it
+    // depends on comes earlier in the plan. Later failures might only be skipped dependants.
+    Throwable failure = null;
+    Action failedAction = null;
+    for (int i = 0; i < graph.size(); i++) {
+      CompletableFuture<Void> future = futures.get(i);
+      if (!future.isCompletedExceptionally()) {
+        record(graph.get(i));
+      } else if (failure == null) {
+        failedAction = graph.get(i);
+        try {
+          future.join();
+        } catch (CompletionException e) {
+          Throwable cause = e.getCause();
+          failure = cause instanceof UncheckedIOException ? cause.getCause() : cause;
         }
       }
-      if (action instanceof CreateArtefactAction) {
-        Artefact artefact = ((CreateArtefactAction) action).getArtefact();
-        if (artefact instanceof KafkaConnectArtefact) {
-          connectors.add((KafkaConnectArtefact) artefact);
-        } else if (artefact instanceof KsqlStreamArtefact) {
-          ksqlStreams.add((KsqlStreamArtefact) artefact);
-        } else if (artefact instanceof KsqlTableArtefact) {
-          ksqlTables.add((KsqlTableArtefact) artefact);
-        }
-      } else if (action instanceof SyncArtefactAction) {
-        Artefact artefact = ((SyncArtefactAction) action).getArtefact();
-        if (artefact instanceof KafkaConnectArtefact) {
-          connectors =
-              new StreamUtils<>(connectors.stream())
-                  .filterAsSet(connector -> !connector.equals(artefact));
-          connectors.add((KafkaConnectArtefact) artefact);
-        }
-      } else if (action instanceof DeleteArtefactAction) {
-        Artefact toBeDeleted = ((DeleteArtefactAction) action).getArtefact();
-        if (toBeDeleted instanceof KafkaConnectArtefact) {
-          connectors =
-              new StreamUtils<>(connectors.stream())
-                  .filterAsSet(connector -> !connector.equals(toBeDeleted));
-        } else if (toBeDeleted instanceof KsqlStreamArtefact) {
-          ksqlStreams =
-              new StreamUtils<>(ksqlStreams.stream())
-                  .filterAsSet(ksql -> !ksql.equals(toBeDeleted));
-        } else if (toBeDeleted instanceof KsqlTableArtefact) {
-          ksqlTables =
-              new StreamUtils<>(ksqlTables.stream()).filterAsSet(ksql -> !ksql.equals(toBeDeleted));
-        }
+    }
+    if (failure != null) {
+      LOGGER.error(String.format("Something happen running action %s", failedAction), failure);
+      if (failure instanceof IOException) {
+        throw (IOException) failure;
+      } else if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      throw new IOException(failure);
+    }
+  }
+
+  private void runAction(Action action) {
+    LOGGER.debug(String.format("Execution action %s (parallel)", action));
+    try {
+      action.run();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void print(Action action) {
+    if (!action.toString().isEmpty()) {
+      outputStream.println(action);
+    }
+  }
+
+  private void record(Action action) {
+    auditor.log(action);
+    // TODO: a nicer and more clean version of this might be a cool thing to have, current version
+    // is shitty.
+    if (action instanceof CreateTopicAction) {
+      topics.add(((CreateTopicAction) action).getTopic());
+    } else if (action instanceof CreateTopicsAction) {
+      topics.addAll(((CreateTopicsAction) action).getTopics());
+    } else if (action instanceof DeleteTopics) {
+      List<String> topicsToBeDeleted = ((DeleteTopics) action).getTopicsToBeDeleted();
+      topics =
+          new StreamUtils<>(topics.stream())
+              .filterAsSet(topic -> !topicsToBeDeleted.contains(topic));
+    }
+    if (action instanceof BaseAccessControlAction
+        && !((BaseAccessControlAction) action).getAclBindings().isEmpty()) {
+      if (action instanceof ClearBindings) {
+        bindings =
+            new StreamUtils<>(bindings.stream())
+                .filterAsSet(
+                    binding ->
+                        !((BaseAccessControlAction) action).getAclBindings().contains(binding));
+      } else {
+        bindings.addAll(((BaseAccessControlAction) action).getAclBindings());
+      }
+    }
+    if (action instanceof BaseAccountsAction) {
+      if (action instanceof ClearAccounts) {
+        Collection<ServiceAccount> toDeletePrincipals = ((ClearAccounts) action).getPrincipals();
+        serviceAccounts =
+            new StreamUtils<>(serviceAccounts.stream())
+                .filterAsSet(sa -> !toDeletePrincipals.contains(sa));
+      } else {
+        CreateAccounts createAction = (CreateAccounts) action;
+        serviceAccounts.addAll(createAction.getPrincipals());
+      }
+    }
+    if (action instanceof CreateArtefactAction) {
+      Artefact artefact = ((CreateArtefactAction) action).getArtefact();
+      if (artefact instanceof KafkaConnectArtefact) {
+        connectors.add((KafkaConnectArtefact) artefact);
+      } else if (artefact instanceof KsqlStreamArtefact) {
+        ksqlStreams.add((KsqlStreamArtefact) artefact);
+      } else if (artefact instanceof KsqlTableArtefact) {
+        ksqlTables.add((KsqlTableArtefact) artefact);
+      }
+    } else if (action instanceof SyncArtefactAction) {
+      Artefact artefact = ((SyncArtefactAction) action).getArtefact();
+      if (artefact instanceof KafkaConnectArtefact) {
+        connectors =
+            new StreamUtils<>(connectors.stream())
+                .filterAsSet(connector -> !connector.equals(artefact));
+        connectors.add((KafkaConnectArtefact) artefact);
+      }
+    } else if (action instanceof DeleteArtefactAction) {
+      Artefact toBeDeleted = ((DeleteArtefactAction) action).getArtefact();
+      if (toBeDeleted instanceof KafkaConnectArtefact) {
+        connectors =
+            new StreamUtils<>(connectors.stream())
+                .filterAsSet(connector -> !connector.equals(toBeDeleted));
+      } else if (toBeDeleted instanceof KsqlStreamArtefact) {
+        ksqlStreams =
+            new StreamUtils<>(ksqlStreams.stream()).filterAsSet(ksql -> !ksql.equals(toBeDeleted));
+      } else if (toBeDeleted instanceof KsqlTableArtefact) {
+        ksqlTables =
+            new StreamUtils<>(ksqlTables.stream()).filterAsSet(ksql -> !ksql.equals(toBeDeleted));
       }
     }
   }
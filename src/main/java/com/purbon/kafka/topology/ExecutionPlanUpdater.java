@@ -15,4 +15,16 @@ public interface ExecutionPlanUpdater {
   void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) throws IOException;
 
   void printCurrentState(PrintStream out) throws IOException;
+
+  /**
+   * Read the state of the cluster from a snapshot shared with the other updaters of the run,
+   * instead of querying the cluster directly. A null snapshot goes back to querying the cluster.
+   */
+  default void useClusterState(ClusterStateSnapshot clusterState) {}
+
+  /**
+   * Limit the deletions of the plan to the resources of the scope, the resources of the topologies
+   * left out of the run are not deleted.
+   */
+  default void useScope(PlanScope scope) {}
 }
@@ -4,10 +4,13 @@ import static com.purbon.kafka.topology.JulieOpsAuxiliary.*;
 
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClientBuilder;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountsCache;
 import com.purbon.kafka.topology.audit.Auditor;
+import com.purbon.kafka.topology.clients.RetryPolicy;
 import com.purbon.kafka.topology.exceptions.ValidationException;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.quotas.QuotasManager;
+import com.purbon.kafka.topology.schemas.SchemaFingerprints;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
 import com.purbon.kafka.topology.serviceAccounts.VoidPrincipalProvider;
 import io.confluent.kafka.schemaregistry.SchemaProvider;
@@ -17,15 +20,25 @@ import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.rest.RestService;
 import io.confluent.kafka.schemaregistry.json.JsonSchemaProvider;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchemaProvider;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
@@ -44,9 +57,12 @@ public class JulieOps implements AutoCloseable {
   private KafkaConnectArtefactManager connectorManager;
   private KSqlArtefactManager kSqlArtefactManager;
   private QuotasManager quotasManager;
-  private final Map<String, Topology> topologies;
+  private Map<String, Topology> topologies;
   private final Configuration config;
   private final PrintStream outputStream;
+  private PlanScope planScope = PlanScope.all();
+  // service accounts of the Confluent Cloud providers, null when they are not used
+  private ServiceAccountsCache serviceAccountsCache;
 
   private JulieOps(
       Map<String, Topology> topologies,
@@ -80,17 +96,26 @@ public class JulieOps implements AutoCloseable {
     Configuration builderConfig = Configuration.build(config);
     TopologyBuilderAdminClient adminClient =
         new TopologyBuilderAdminClientBuilder(builderConfig).build();
+    ServiceAccountsCache serviceAccountsCache = null;
+    if (builderConfig.useConfluentCloud()
+        || AccessControlProviderFactory.usesConfluentCloud(builderConfig)) {
+      serviceAccountsCache = ServiceAccountsCache.build(builderConfig);
+    }
     AccessControlProviderFactory factory =
-        new AccessControlProviderFactory(builderConfig, adminClient);
-    PrincipalProviderFactory principalProviderFactory = new PrincipalProviderFactory(builderConfig);
-    return build(
-        topologyFile,
-        plansFile,
-        builderConfig,
-        adminClient,
-        factory.get(),
-        factory.builder(),
-        principalProviderFactory.get());
+        new AccessControlProviderFactory(builderConfig, adminClient, serviceAccountsCache);
+    PrincipalProviderFactory principalProviderFactory =
+        new PrincipalProviderFactory(builderConfig, serviceAccountsCache);
+    JulieOps julieOps =
+        build(
+            topologyFile,
+            plansFile,
+            builderConfig,
+            adminClient,
+            factory.get(),
+            factory.builder(),
+            principalProviderFactory.get());
+    julieOps.setServiceAccountsCache(serviceAccountsCache);
+    return julieOps;
   }
 
   public static JulieOps build(
@@ -120,21 +145,24 @@ public class JulieOps implements AutoCloseable {
       BindingsBuilderProvider bindingsBuilderProvider,
       PrincipalProvider principalProvider)
       throws Exception {
-    Map<String, Topology> topologies;
-    if (plansFile.equals("default")) {
-      topologies = TopologyObjectBuilder.build(topologyFileOrDir, config);
-    } else {
-      topologies = TopologyObjectBuilder.build(topologyFileOrDir, plansFile, config);
-    }
-    TopologyValidator validator = new TopologyValidator(config);
-    for (Topology topology : topologies.values()) {
-      List<String> validationResults = validator.validate(topology);
-      if (!validationResults.isEmpty()) {
-        String resultsMessage = String.join("\n", validationResults);
-        throw new ValidationException(resultsMessage);
-      }
-      config.validateWith(topology);
+    String plans = plansFile.equals("default") ? "" : plansFile;
+    List<Path> descriptors = TopologyObjectBuilder.listTopologyFiles(topologyFileOrDir, config);
+    Optional<List<Path>> changedDescriptors = Optional.empty();
+    if (config.getChangedFiles().isPresent()) {
+      changedDescriptors =
+          ChangeSet.read(config.getChangedFiles().get(), ChangeSet.baseDirectory(topologyFileOrDir))
+              .affectedDescriptors(topologyFileOrDir, descriptors);
+      changedDescriptors.ifPresent(
+          changed ->
+              LOGGER.info(
+                  "Planning the {} changed of {} topology descriptors",
+                  changed.size(),
+                  descriptors.size()));
     }
+    Map<String, Topology> topologies =
+        buildTopologies(changedDescriptors.orElse(descriptors), plans, config);
+    PlanScope planScope =
+        changedDescriptors.isPresent() ? PlanScope.of(topologies.values()) : PlanScope.all();
     AccessControlManager accessControlManager =
         new AccessControlManager(
             accessControlProvider, bindingsBuilderProvider, config.getJulieRoles(), config);
@@ -146,12 +174,15 @@ public class JulieOps implements AutoCloseable {
     SchemaRegistryClient schemaRegistryClient =
         new CachedSchemaRegistryClient(
             restService,
-            10,
+            config.getSchemaRegistryCacheCapacity(),
             providers,
             schemaRegistryConfig.isEmpty() ? null : schemaRegistryConfig,
             null);
+    SchemaFingerprints schemaFingerprints =
+        new SchemaFingerprints(
+            config.getSchemaFingerprintsFile(), config.getConfluentSchemaRegistryUrl());
     SchemaRegistryManager schemaRegistryManager =
-        new SchemaRegistryManager(schemaRegistryClient, topologyFileOrDir);
+        new SchemaRegistryManager(schemaRegistryClient, topologyFileOrDir, schemaFingerprints);
     TopicManager topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
     PrincipalUpdateManager principalUpdateManager =
         new PrincipalUpdateManager(principalProvider, config);
@@ -163,16 +194,35 @@ public class JulieOps implements AutoCloseable {
         configureKSqlArtefactManager(config, topologyFileOrDir);
     QuotasManager quotasManager = new QuotasManager(adminClient, config);
     configureLogsInDebugMode(config);
-    return new JulieOps(
-        topologies,
-        config,
-        topicManager,
-        accessControlManager,
-        principalUpdateManager,
-        principalDeleteManager,
-        connectorManager,
-        kSqlArtefactManager,
-        quotasManager);
+    JulieOps julieOps =
+        new JulieOps(
+            topologies,
+            config,
+            topicManager,
+            accessControlManager,
+            principalUpdateManager,
+            principalDeleteManager,
+            connectorManager,
+            kSqlArtefactManager,
+            quotasManager);
+    julieOps.setPlanScope(planScope);
+    return julieOps;
+  }
+
+  /** Parse and validate the topologies of the given descriptor files. */
+  static Map<String, Topology> buildTopologies(
+      List<Path> descriptors, String plansFile, Configuration config) throws Exception {
+    Map<String, Topology> topologies = TopologyObjectBuilder.build(descriptors, plansFile, config);
+    TopologyValidator validator = new TopologyValidator(config);
+    for (Topology topology : topologies.values()) {
+      List<String> validationResults = validator.validate(topology);
+      if (!validationResults.isEmpty()) {
+        String resultsMessage = String.join("\n", validationResults);
+        throw new ValidationException(resultsMessage);
+      }
+      config.validateWith(topology);
+    }
+    return topologies;
   }
 
   void run(BackendController backendController, PrintStream printStream, Auditor auditor)
@@ -182,29 +232,171 @@ public class JulieOps implements AutoCloseable {
         String.format(
             "Running topology builder with topicManager=[%s], accessControlManager=[%s], dryRun=[%s], isQuiet=[%s]",
             topicManager, accessControlManager, config.isDryRun(), config.isQuiet()));
-    // Create users should always be first, so user exists when making acl link
-    for (Topology topology : topologies.values()) {
-      principalUpdateManager.updatePlan(topology, plan);
+    try (ClusterStateSnapshot clusterState = ClusterStateSnapshot.concurrent()) {
+      // Every updater reads the cluster from the same snapshot, its remote queries start now
+      // and run concurrently while the plan is being built
+      updaters().forEach(updater -> updater.useClusterState(clusterState));
+      updaters().forEach(updater -> updater.useScope(planScope));
+      updatePlan(plan);
+      plan.coalesceCreateTopicActions(config.getTopicsCreateBatchSize());
+      plan.run(config.isDryRun(), config.getExecutionParallelism());
+      if (!config.isQuiet() && !config.isDryRun()) {
+        // the cluster only changed when the plan had something to do
+        printCurrentState(
+            plan.getActions().isEmpty() ? clusterState : new ClusterStateSnapshot(), System.out);
+      }
+    } finally {
+      // the snapshot is closed, later calls of the managers query the cluster again
+      updaters().forEach(updater -> updater.useClusterState(null));
+      // how much the retries of the http clients added to the run
+      RetryPolicy.logCounters();
+      if (serviceAccountsCache != null) {
+        // the next run lists the service accounts again
+        serviceAccountsCache.invalidate();
+      }
     }
-    topicManager.updatePlan(plan, topologies);
-    accessControlManager.updatePlan(plan, topologies);
-    connectorManager.updatePlan(plan, topologies);
-    kSqlArtefactManager.updatePlan(plan, topologies);
-    quotasManager.updatePlan(plan, topologies);
+  }
+
+  private List<ExecutionPlanUpdater> updaters() {
+    return Arrays.asList(
+        principalUpdateManager,
+        topicManager,
+        accessControlManager,
+        connectorManager,
+        kSqlArtefactManager,
+        quotasManager,
+        principalDeleteManager);
+  }
+
+  /**
+   * Let every manager plan its actions into a forked plan, concurrently, then append them to the
+   * plan in the mandated order.
+   */
+  private void updatePlan(ExecutionPlan plan) throws IOException {
+    ExecutionPlan principalUpdates = plan.fork();
+    ExecutionPlan topics = plan.fork();
+    ExecutionPlan bindings = plan.fork();
+    ExecutionPlan connectors = plan.fork();
+    ExecutionPlan kSqlArtefacts = plan.fork();
+    ExecutionPlan quotas = plan.fork();
+    ExecutionPlan principalDeletes = plan.fork();
+    runConcurrently(
+        Arrays.asList(
+            () -> {
+              // both managers configure and use the same principal provider
+              for (Topology topology : topologies.values()) {
+                principalUpdateManager.updatePlan(topology, principalUpdates);
+              }
+              for (Topology topology : topologies.values()) {
+                principalDeleteManager.updatePlan(topology, principalDeletes);
+              }
+              return null;
+            },
+            () -> {
+              topicManager.updatePlan(topics, topologies);
+              return null;
+            },
+            () -> {
+              accessControlManager.updatePlan(bindings, topologies);
+              return null;
+            },
+            () -> {
+              connectorManager.updatePlan(connectors, topologies);
+              return null;
+            },
+            () -> {
+              kSqlArtefactManager.updatePlan(kSqlArtefacts, topologies);
+              return null;
+            },
+            () -> {
+              quotasManager.updatePlan(quotas, topologies);
+              return null;
+            }),
+        config.getPlanningParallelism());
+    // Create users should always be first, so user exists when making acl link
+    plan.addAll(principalUpdates);
+    plan.addAll(topics);
+    plan.addAll(bindings);
+    plan.addAll(connectors);
+    plan.addAll(kSqlArtefacts);
+    plan.addAll(quotas);
     // Delete users should always be last,
     // avoids any unlinked acls, e.g. if acl delete or something errors then there is a link still
     // from the account, and can be re-run or manually fixed more easily
-    for (Topology topology : topologies.values()) {
-      principalDeleteManager.updatePlan(topology, plan);
+    plan.addAll(principalDeletes);
+  }
+
+  /**
+   * Print the current state of every manager. The managers read the cluster concurrently, each
+   * into its own buffer, and the output keeps the usual order.
+   */
+  private void printCurrentState(ClusterStateSnapshot clusterState, PrintStream out)
+      throws IOException {
+    List<ExecutionPlanUpdater> printers =
+        Arrays.asList(
+            topicManager,
+            accessControlManager,
+            principalUpdateManager,
+            connectorManager,
+            kSqlArtefactManager,
+            quotasManager);
+    printers.forEach(printer -> printer.useClusterState(clusterState));
+    List<Callable<String>> tasks = new ArrayList<>();
+    for (ExecutionPlanUpdater printer : printers) {
+      tasks.add(
+          () -> {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (PrintStream bufferStream =
+                new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+              printer.printCurrentState(bufferStream);
+            }
+            return buffer.toString(StandardCharsets.UTF_8);
+          });
+    }
+    runConcurrently(tasks, tasks.size()).forEach(out::print);
+  }
+
+  /**
+   * Run the tasks on up to parallelism threads, or one after the other in the calling thread with
+   * a parallelism of one, and return their results in order.
+   */
+  private static <T> List<T> runConcurrently(List<Callable<T>> tasks, int parallelism)
+      throws IOException {
+    List<T> results = new ArrayList<>();
+    if (parallelism <= 1) {
+      for (Callable<T> task : tasks) {
+        try {
+          results.add(task.call());
+        } catch (IOException | RuntimeException e) {
+          throw e;
+        } catch (Exception e) {
+          throw new IOException(e);
+        }
+      }
+      return results;
     }
-    plan.run(config.isDryRun());
-    if (!config.isQuiet() && !config.isDryRun()) {
-      topicManager.printCurrentState(System.out);
-      accessControlManager.printCurrentState(System.out);
-      principalUpdateManager.printCurrentState(System.out);
-      connectorManager.printCurrentState(System.out);
-      kSqlArtefactManager.printCurrentState(System.out);
-      quotasManager.printCurrentState(System.out);
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()));
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (Callable<T> task : tasks) {
+        futures.add(executor.submit(task));
+      }
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      } else if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      executor.shutdownNow();
     }
   }
 
@@ -0,0 +1,264 @@
+package com.purbon.kafka.topology;
+
+import static com.purbon.kafka.topology.JulieOpsAuxiliary.*;
+
+import com.purbon.kafka.topology.audit.Auditor;
+import com.purbon.kafka.topology.exceptions.ValidationException;
+import com.purbon.kafka.topology.model.Topology;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keep JulieOps running between reconciles. The admin client, the http clients and the state of
+ * the backend are built once and reused by every reconcile, instead of paying for them on every
+ * run. Each reconcile only plans the descriptors changed since the previous one, as with the
+ * changed files of the CLI, and every descriptor when a file that is not a descriptor changed.
+ *
+ * <p>Reconciles are requested with a POST to /reconcile on the loopback interface, add full=true
+ * to the query to plan every descriptor. The response is the plan. When watching, changes of the
+ * topology files trigger a reconcile too, and every reconcile is a dry run, see {@link
+ * Configuration#isDryRun()}. Reconciles run one at a time.
+ */
+public class JulieOpsDaemon implements AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger(JulieOpsDaemon.class);
+
+  public static final String RECONCILE_PATH = "/reconcile";
+
+  private final String topologyFileOrDir;
+  private final String plansFile;
+  private final JulieOps julieOps;
+  private final BackendController backendController;
+  private final Auditor auditor;
+  private final CountDownLatch stopped;
+  private final AtomicBoolean closed;
+
+  // last modified time and size of the topology files when the last reconcile started
+  private Map<Path, List<Object>> reconciledFiles;
+  private HttpServer server;
+  private TopologyWatcher watcher;
+
+  JulieOpsDaemon(
+      String topologyFileOrDir,
+      String plansFile,
+      JulieOps julieOps,
+      BackendController backendController,
+      Auditor auditor) {
+    this.topologyFileOrDir = topologyFileOrDir;
+    this.plansFile = plansFile.equals("default") ? "" : plansFile;
+    this.julieOps = julieOps;
+    this.backendController = backendController;
+    this.auditor = auditor;
+    this.stopped = new CountDownLatch(1);
+    this.closed = new AtomicBoolean(false);
+    this.reconciledFiles = new HashMap<>();
+  }
+
+  public static JulieOpsDaemon build(
+      String topologyFile, String plansFile, Map<String, String> config) throws Exception {
+    JulieOps julieOps = JulieOps.build(topologyFile, plansFile, config);
+    BackendController backendController = buildBackendController(julieOps.getConfig());
+    // this process is the only writer of the state while it runs
+    backendController.keepLoaded();
+    return new JulieOpsDaemon(
+        topologyFile,
+        plansFile,
+        julieOps,
+        backendController,
+        configureAndBuildAuditor(julieOps.getConfig()));
+  }
+
+  /** Reconcile every descriptor, then wait for reconcile requests. */
+  public void start() throws Exception {
+    System.out.print(reconcile(true));
+    Configuration config = julieOps.getConfig();
+    server =
+        HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), config.getDaemonPort()), 0);
+    server.createContext(RECONCILE_PATH, this::handleReconcile);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.start();
+    LOGGER.info(
+        "Waiting for reconcile requests on http://{}:{}{}",
+        server.getAddress().getHostString(),
+        server.getAddress().getPort(),
+        RECONCILE_PATH);
+  }
+
+  /** Reconcile, and print the plan, every time topology files change. */
+  public void watch() throws IOException {
+    Configuration config = julieOps.getConfig();
+    Path topologyPath = Paths.get(topologyFileOrDir).toAbsolutePath();
+    Path directory = Files.isDirectory(topologyPath) ? topologyPath : topologyPath.getParent();
+    watcher =
+        new TopologyWatcher(
+            directory, config.isRecursive(), config.getDaemonWatchDebounceMs(), this::onChange);
+    watcher.start();
+    LOGGER.info("Watching the topology files in {}", directory);
+  }
+
+  private void onChange() {
+    try {
+      System.out.print(reconcile(false));
+    } catch (ValidationException e) {
+      System.out.println(e.getMessage());
+    } catch (Exception e) {
+      LOGGER.error("The reconcile failed", e);
+    }
+  }
+
+  public void awaitTermination() throws InterruptedException {
+    stopped.await();
+  }
+
+  /**
+   * Plan, and apply unless in dry run, the descriptors changed since the last reconcile, or every
+   * descriptor when full.
+   *
+   * @return the plan
+   */
+  public synchronized String reconcile(boolean full) throws Exception {
+    if (closed.get()) {
+      throw new IllegalStateException("The daemon is closed");
+    }
+    long start = System.nanoTime();
+    Configuration config = julieOps.getConfig();
+    Map<Path, List<Object>> currentFiles = listTopologyFiles();
+    List<Path> descriptors = TopologyObjectBuilder.listTopologyFiles(topologyFileOrDir, config);
+    Optional<List<Path>> changedDescriptors = Optional.empty();
+    if (!full) {
+      changedDescriptors =
+          new ChangeSet(changedFiles(reconciledFiles, currentFiles))
+              .affectedDescriptors(topologyFileOrDir, descriptors);
+    }
+    if (changedDescriptors.isPresent() && changedDescriptors.get().isEmpty()) {
+      reconciledFiles = currentFiles;
+      return "No topology changes to reconcile\n";
+    }
+    Map<String, Topology> topologies =
+        JulieOps.buildTopologies(changedDescriptors.orElse(descriptors), plansFile, config);
+    julieOps.setTopologies(topologies);
+    julieOps.setPlanScope(
+        changedDescriptors.isPresent() ? PlanScope.of(topologies.values()) : PlanScope.all());
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+      julieOps.run(backendController, out, auditor);
+    }
+    // a failed reconcile plans the same files again the next time
+    reconciledFiles = currentFiles;
+    LOGGER.info(
+        "Reconciled {} of {} topology descriptors in {} ms",
+        changedDescriptors.map(List::size).orElse(descriptors.size()),
+        descriptors.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return buffer.toString(StandardCharsets.UTF_8);
+  }
+
+  private void handleReconcile(HttpExchange exchange) throws IOException {
+    try {
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        respond(exchange, 405, "Reconciles are requested with a POST\n");
+        return;
+      }
+      String query = Objects.requireNonNullElse(exchange.getRequestURI().getQuery(), "");
+      boolean full = List.of(query.split("&")).contains("full=true");
+      try {
+        respond(exchange, 200, reconcile(full));
+      } catch (ValidationException e) {
+        respond(exchange, 400, e.getMessage() + "\n");
+      } catch (Exception e) {
+        LOGGER.error("The reconcile failed", e);
+        respond(exchange, 500, e.getMessage() + "\n");
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  /** Every file below the topology directory, or the topology file, with its time and size. */
+  private Map<Path, List<Object>> listTopologyFiles() throws IOException {
+    Path topologyPath = Paths.get(topologyFileOrDir);
+    Map<Path, List<Object>> files = new HashMap<>();
+    try (Stream<Path> paths = Files.walk(topologyPath)) {
+      for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+        files.put(
+            path.toAbsolutePath().normalize(),
+            List.of(Files.getLastModifiedTime(path), Files.size(path)));
+      }
+    }
+    return files;
+  }
+
+  /** Files added, removed or modified between the two listings. */
+  static Set<Path> changedFiles(Map<Path, List<Object>> before, Map<Path, List<Object>> after) {
+    Set<Path> changed = new HashSet<>();
+    after.forEach(
+        (path, stamp) -> {
+          if (!stamp.equals(before.get(path))) {
+            changed.add(path);
+          }
+        });
+    before.keySet().stream().filter(path -> !after.containsKey(path)).forEach(changed::add);
+    return changed;
+  }
+
+  /**
+   * Stop the reconciles. Only the first call closes, and it waits for the running reconcile to
+   * finish before closing the clients and the backend.
+   */
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    if (watcher != null) {
+      try {
+        watcher.close();
+      } catch (IOException e) {
+        LOGGER.warn("Failed to stop watching the topology files", e);
+      }
+    }
+    if (server != null) {
+      server.stop(0);
+    }
+    synchronized (this) {
+      julieOps.close();
+      // kept open by the reconciles, see BackendController#keepLoaded
+      backendController.close();
+    }
+    stopped.countDown();
+  }
+}
@@ -146,6 +146,6 @@ public class KSqlArtefactManager extends ArtefactManager {
   @Override
   public void printCurrentState(PrintStream out) throws IOException {
     out.println("List of KSQL Artifacts:");
-    getClustersState().forEach(out::println);
+    readClustersState(clusterState()).forEach(out::println);
   }
 }
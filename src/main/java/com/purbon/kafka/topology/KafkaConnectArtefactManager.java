@@ -130,6 +130,6 @@ public class KafkaConnectArtefactManager extends ArtefactManager {
   @Override
   public void printCurrentState(PrintStream out) throws IOException {
     out.println("List of Connectors:");
-    getClustersState().forEach(out::println);
+    readClustersState(clusterState()).forEach(out::println);
   }
 }
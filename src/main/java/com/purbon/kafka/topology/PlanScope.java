@@ -0,0 +1,52 @@
+package com.purbon.kafka.topology;
+
+import com.purbon.kafka.topology.model.Project;
+import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The resources of the cluster a plan is allowed to delete. A full plan covers every resource. A
+ * plan built from some of the topology descriptors only covers the resources named after the
+ * projects of those descriptors, the resources of the other descriptors are left as they are.
+ */
+public class PlanScope {
+
+  private static final PlanScope ALL = new PlanScope(null);
+
+  private final PrefixMatcher projectPrefixes;
+
+  private PlanScope(PrefixMatcher projectPrefixes) {
+    this.projectPrefixes = projectPrefixes;
+  }
+
+  public static PlanScope all() {
+    return ALL;
+  }
+
+  /** The scope of a plan built from the given topologies only. */
+  public static PlanScope of(Collection<Topology> topologies) {
+    List<String> prefixes =
+        topologies.stream()
+            .flatMap(topology -> topology.getProjects().stream())
+            .map(Project::namePrefix)
+            .toList();
+    return new PlanScope(new PrefixMatcher(prefixes));
+  }
+
+  /** Whether the plan covers some of the topologies only. */
+  public boolean isPartial() {
+    return projectPrefixes != null;
+  }
+
+  public boolean covers(String resourceName) {
+    if (!isPartial()) {
+      return true;
+    }
+    // an empty matcher matches every name, but a plan without projects covers none
+    return resourceName != null
+        && !projectPrefixes.isEmpty()
+        && projectPrefixes.matches(resourceName);
+  }
+}
@@ -9,17 +9,25 @@ import java.util.stream.Collectors;
 
 public class PrincipalDeleteManager extends AbstractPrincipalManager {
 
+  private PlanScope scope = PlanScope.all();
+
   public PrincipalDeleteManager(PrincipalProvider provider, Configuration config) {
     super(provider, config);
   }
 
+  @Override
+  public void useScope(PlanScope scope) {
+    this.scope = scope;
+  }
+
   @Override
   protected void doUpdatePlan(
       ExecutionPlan plan,
       Topology topology,
       List<String> principals,
       Map<String, ServiceAccount> accounts) {
-    if (config.isAllowDeletePrincipals()) {
+    // the principals of the topologies left out of a partial plan are unknown
+    if (config.isAllowDeletePrincipals() && !scope.isPartial()) {
       // build list of principals to be deleted.
       List<ServiceAccount> principalsToBeDeleted =
           accounts.values().stream()
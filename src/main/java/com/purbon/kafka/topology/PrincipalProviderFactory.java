@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology;
 
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountsCache;
 import com.purbon.kafka.topology.serviceAccounts.CCloudPrincipalProvider;
 import com.purbon.kafka.topology.serviceAccounts.VoidPrincipalProvider;
 import java.io.IOException;
@@ -7,14 +8,26 @@ import java.io.IOException;
 public class PrincipalProviderFactory {
 
   private Configuration config;
+  private ServiceAccountsCache serviceAccounts;
 
   public PrincipalProviderFactory(Configuration config) {
+    this(config, null);
+  }
+
+  /**
+   * @param serviceAccounts cache shared with the acl providers, or null to give the provider a
+   *     cache of its own
+   */
+  public PrincipalProviderFactory(Configuration config, ServiceAccountsCache serviceAccounts) {
     this.config = config;
+    this.serviceAccounts = serviceAccounts;
   }
 
   public PrincipalProvider get() throws IOException {
     if (config.useConfluentCloud()) {
-      return new CCloudPrincipalProvider(config);
+      return serviceAccounts == null
+          ? new CCloudPrincipalProvider(config)
+          : new CCloudPrincipalProvider(config, serviceAccounts);
     } else {
       return new VoidPrincipalProvider();
     }
@@ -7,11 +7,13 @@ import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
 import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
 import com.purbon.kafka.topology.actions.topics.builders.TopicConfigUpdatePlanBuilder;
+import com.purbon.kafka.topology.api.adminclient.TopicsClusterSnapshot;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.exceptions.RemoteValidationException;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
@@ -33,11 +35,16 @@ public class TopicManager implements ExecutionPlanUpdater {
   public static final String NUM_PARTITIONS = "num.partitions";
   public static final String REPLICATION_FACTOR = "replication.factor";
 
+  private static final String APPLICATION_TOPICS = "topics.application";
+  private static final String ALL_TOPICS = "topics.all";
+
   private final SchemaRegistryManager schemaRegistryManager;
   private final TopologyBuilderAdminClient adminClient;
   private final Configuration config;
   private List<String> internalTopicPrefixes;
-  private final List<String> managedPrefixes;
+  private final PrefixMatcher managedPrefixes;
+  private ClusterStateSnapshot clusterState;
+  private PlanScope scope = PlanScope.all();
 
   public TopicManager(
       TopologyBuilderAdminClient adminClient, SchemaRegistryManager schemaRegistryManager) {
@@ -52,22 +59,46 @@ public class TopicManager implements ExecutionPlanUpdater {
     this.schemaRegistryManager = schemaRegistryManager;
     this.config = config;
     this.internalTopicPrefixes = new ArrayList<>();
-    this.managedPrefixes = config.getTopicManagedPrefixes();
+    this.managedPrefixes = new PrefixMatcher(config.getTopicManagedPrefixes());
+  }
+
+  @Override
+  public void useClusterState(ClusterStateSnapshot clusterState) {
+    this.clusterState = clusterState;
+    if (clusterState != null
+        && (config.fetchTopicStateFromTheCluster() || shouldDetectDivergences())) {
+      clusterState.prefetch(APPLICATION_TOPICS, adminClient::listApplicationTopics);
+    }
+  }
+
+  @Override
+  public void useScope(PlanScope scope) {
+    this.scope = scope;
+  }
+
+  private ClusterStateSnapshot clusterState() {
+    return clusterState != null ? clusterState : new ClusterStateSnapshot();
   }
 
   @Override
   public void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) throws IOException {
     internalTopicPrefixes = config.getKafkaInternalTopicPrefixes(topologies.values());
-    Set<String> currentTopics = loadActualClusterStateIfAvailable(plan);
+    ClusterStateSnapshot clusterState = clusterState();
+    Set<String> currentTopics = loadActualClusterStateIfAvailable(plan, clusterState);
     Map<String, Topic> topics = new HashMap<>();
     Set<Action> createTopicActions = new HashSet<>();
     Set<Action> updateTopicConfigActions = new HashSet<>();
+    List<Map<String, Topic>> topicsPerTopology = new ArrayList<>();
     for (Topology topology : topologies.values()) {
-      Map<String, Topic> entryTopics = parseMapOfTopics(topology);
+      topicsPerTopology.add(parseMapOfTopics(topology));
+    }
+    TopicConfigUpdatePlanBuilder builder =
+        new TopicConfigUpdatePlanBuilder(
+            adminClient, buildClusterSnapshot(topicsPerTopology, currentTopics));
+    for (Map<String, Topic> entryTopics : topicsPerTopology) {
       entryTopics.forEach(
           (topicName, topic) -> {
             if (currentTopics.contains(topicName)) {
-              TopicConfigUpdatePlanBuilder builder = new TopicConfigUpdatePlanBuilder(adminClient);
               TopicConfigUpdatePlan topicConfigUpdatePlan =
                   builder.createTopicConfigUpdatePlan(topic, topicName);
               if (topicConfigUpdatePlan.hasConfigChanges()) {
@@ -82,15 +113,21 @@ public class TopicManager implements ExecutionPlanUpdater {
     }
     createTopicActions.forEach(plan::add); // Do createActions before update actions
     updateTopicConfigActions.forEach(plan::add);
-    topics.forEach(
-        (topicName, topic) ->
-            plan.add(new RegisterSchemaAction(schemaRegistryManager, topic, topicName)));
+    for (Map.Entry<String, Topic> entry : topics.entrySet()) {
+      // subjects synced by a previous run with the same schema are left out of the plan
+      RegisterSchemaAction action =
+          new RegisterSchemaAction(schemaRegistryManager, entry.getValue(), entry.getKey());
+      if (action.hasChanges()) {
+        plan.add(action);
+      }
+    }
     if (config.isAllowDeleteTopics()) {
       // Handle topic delete: Topics in the initial list, but not present anymore after a
       // full topic sync should be deleted
       List<String> topicsToBeDeleted =
           currentTopics.stream()
               .filter(topic -> !topics.containsKey(topic) && !isAnInternalTopics(topic))
+              .filter(scope::covers)
               .collect(Collectors.toList());
       if (!topicsToBeDeleted.isEmpty()) {
         LOGGER.debug("Topic to be deleted: " + StringUtils.join(topicsToBeDeleted, ","));
@@ -99,6 +136,20 @@ public class TopicManager implements ExecutionPlanUpdater {
     }
   }
 
+  private TopicsClusterSnapshot buildClusterSnapshot(
+      List<Map<String, Topic>> topicsPerTopology, Set<String> currentTopics) throws IOException {
+    Set<String> existingTopics =
+        topicsPerTopology.stream()
+            .flatMap(entryTopics -> entryTopics.keySet().stream())
+            .filter(currentTopics::contains)
+            .collect(Collectors.toSet());
+    if (existingTopics.isEmpty()) {
+      return TopicsClusterSnapshot.empty();
+    }
+    return TopicsClusterSnapshot.build(
+        adminClient, existingTopics, config.getTopicsSnapshotBatchSize());
+  }
+
   private Map<String, Topic> parseMapOfTopics(Topology topology) {
     Stream<Topic> topics =
         topology.getProjects().stream()
@@ -114,10 +165,11 @@ public class TopicManager implements ExecutionPlanUpdater {
     return internalTopicPrefixes.stream().anyMatch(topic::startsWith);
   }
 
-  private Set<String> loadActualClusterStateIfAvailable(ExecutionPlan plan) throws IOException {
+  private Set<String> loadActualClusterStateIfAvailable(
+      ExecutionPlan plan, ClusterStateSnapshot clusterState) throws IOException {
     Set<String> listOfTopics =
         config.fetchTopicStateFromTheCluster()
-            ? adminClient.listApplicationTopics()
+            ? clusterState.get(APPLICATION_TOPICS, adminClient::listApplicationTopics)
             : plan.getTopics();
     listOfTopics =
         listOfTopics.stream().filter(this::matchesPrefixList).collect(Collectors.toSet());
@@ -131,17 +183,25 @@ public class TopicManager implements ExecutionPlanUpdater {
     }
     if (config.shouldVerifyRemoteState() && !config.fetchStateFromTheCluster()) {
       // verify that the remote state does not contain different topics than the local state
-      detectDivergencesInTheRemoteCluster(plan);
+      detectDivergencesInTheRemoteCluster(plan, clusterState);
     }
     return listOfTopics;
   }
 
-  private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan) throws IOException {
+  private boolean shouldDetectDivergences() {
+    return config.shouldVerifyRemoteState()
+        && !config.fetchStateFromTheCluster()
+        && config.isAllowDeleteTopics();
+  }
+
+  private void detectDivergencesInTheRemoteCluster(
+      ExecutionPlan plan, ClusterStateSnapshot clusterState) throws IOException {
     if (!config.isAllowDeleteTopics()) {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    Set<String> remoteTopics = adminClient.listApplicationTopics();
+    Set<String> remoteTopics =
+        clusterState.get(APPLICATION_TOPICS, adminClient::listApplicationTopics);
     List<String> delta =
         plan.getTopics().stream()
             .filter(localTopic -> !remoteTopics.contains(localTopic))
@@ -161,16 +221,15 @@ public class TopicManager implements ExecutionPlanUpdater {
   }
 
   private boolean matchesPrefixList(String topic) {
-    boolean matches =
-        managedPrefixes.isEmpty() || managedPrefixes.stream().anyMatch(topic::startsWith);
-    LOGGER.debug(String.format("Topic %s matches %s with %s", topic, matches, managedPrefixes));
+    boolean matches = managedPrefixes.matches(topic);
+    LOGGER.debug("Topic {} matches {} with {}", topic, matches, managedPrefixes);
     return matches;
   }
 
   @Override
   public void printCurrentState(PrintStream os) throws IOException {
     os.println("List of Topics:");
-    adminClient.listTopics().forEach(os::println);
+    clusterState().get(ALL_TOPICS, adminClient::listTopics).forEach(os::println);
   }
 
   public void close() {
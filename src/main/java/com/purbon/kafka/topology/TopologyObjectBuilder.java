@@ -15,6 +15,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class TopologyObjectBuilder {
 
@@ -57,8 +63,14 @@ public final class TopologyObjectBuilder {
 
   public static Map<String, Topology> build(
       String fileOrDir, String plansFile, Configuration config) throws IOException {
+    return build(listTopologyFiles(fileOrDir, config), plansFile, config);
+  }
+
+  /** Build the topologies of the given descriptor files only. */
+  public static Map<String, Topology> build(
+      List<Path> files, String plansFile, Configuration config) throws IOException {
     PlanMap plans = buildPlans(plansFile);
-    List<Topology> topologies = parseListOfTopologies(fileOrDir, config, plans);
+    List<Topology> topologies = parseFiles(files, config, plans);
     Map<String, Topology> collection = new HashMap<>();
     for (Topology topology : topologies) {
       String projectPrefix = buildProjectPrefix(topology, config);
@@ -120,38 +132,79 @@ public final class TopologyObjectBuilder {
     return plansFile.isEmpty() ? new PlanMap() : plansSerdes.deserialise(new File(plansFile));
   }
 
-  private static List<Topology> parseListOfTopologies(
-      String fileOrDir, Configuration config, PlanMap plans) {
-    TopologySerdes parser = new TopologySerdes(config, plans);
-    List<Topology> topologies = new ArrayList<>();
+  /** The descriptor files of a topology file or directory, in the order they are parsed. */
+  public static List<Path> listTopologyFiles(String fileOrDir, Configuration config) {
     final Path path = Paths.get(fileOrDir);
-    if (Files.isDirectory(path)) {
-      loadFromDirectory(path, config.isRecursive(), parser, topologies);
+    List<Path> files = new ArrayList<>();
+    if (!Files.isDirectory(path)) {
+      files.add(path);
     } else {
-      topologies.add(parser.deserialise(new File(fileOrDir)));
+      listTopologyFiles(path, config.isRecursive(), files);
+    }
+    return files;
+  }
+
+  /**
+   * Collect the files of a directory in sorted order, followed by the files of its sub directories
+   * when recursive, with a single listing per directory.
+   */
+  private static void listTopologyFiles(
+      final Path directory, final boolean recursive, final List<Path> files) {
+    List<Path> entries;
+    try (Stream<Path> stream = Files.list(directory)) {
+      entries = stream.sorted().collect(Collectors.toList());
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    List<Path> directories = new ArrayList<>();
+    for (Path entry : entries) {
+      if (Files.isDirectory(entry)) {
+        directories.add(entry);
+      } else {
+        files.add(entry);
+      }
+    }
+    if (recursive) {
+      directories.forEach(dir -> listTopologyFiles(dir, recursive, files));
     }
-    return topologies;
   }
 
-  private static void loadFromDirectory(
-      final Path directory,
-      final boolean recursive,
-      final TopologySerdes parser,
-      final List<Topology> topologies) {
+  /**
+   * Deserialise the files concurrently, each thread with its own parser as the object mappers and
+   * custom deserializers are not shared between threads. The topologies are returned in the order
+   * of the files, and the error of the first failed file in that order is rethrown.
+   */
+  private static List<Topology> parseFiles(List<Path> files, Configuration config, PlanMap plans) {
+    int parallelism = Math.min(Math.max(config.getParsingParallelism(), 1), files.size());
+    if (parallelism <= 1) {
+      TopologySerdes parser = new TopologySerdes(config, plans);
+      return files.stream()
+          .map(file -> parser.deserialise(file.toFile()))
+          .collect(Collectors.toCollection(ArrayList::new));
+    }
+    ThreadLocal<TopologySerdes> parsers =
+        ThreadLocal.withInitial(() -> new TopologySerdes(config, plans));
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
     try {
-      Files.list(directory)
-          .sorted()
-          .filter(p -> !Files.isDirectory(p))
-          .map(path -> parser.deserialise(path.toFile()))
-          .forEach(topologies::add);
-      if (recursive) {
-        Files.list(directory)
-            .sorted()
-            .filter(Files::isDirectory)
-            .forEach(p -> loadFromDirectory(p, recursive, parser, topologies));
+      List<Future<Topology>> futures = new ArrayList<>();
+      for (Path file : files) {
+        futures.add(executor.submit(() -> parsers.get().deserialise(file.toFile())));
       }
-    } catch (final IOException e) {
+      List<Topology> topologies = new ArrayList<>();
+      for (Future<Topology> future : futures) {
+        topologies.add(future.get());
+      }
+      return topologies;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
       throw new RuntimeException(e);
+    } finally {
+      executor.shutdownNow();
     }
   }
 }
@@ -1,68 +1,108 @@
 package com.purbon.kafka.topology;
 
 import com.purbon.kafka.topology.exceptions.ValidationException;
-import com.purbon.kafka.topology.model.Project;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
-import com.purbon.kafka.topology.utils.Either;
 import com.purbon.kafka.topology.validation.TopicValidation;
 import com.purbon.kafka.topology.validation.TopologyValidation;
 import com.purbon.kafka.topology.validation.Validation;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Run the configured validations on the topologies. The validation classes are instantiated once,
+ * on the first validation, and reused for every topology. Each topic goes once through every topic
+ * validation. With julie.validation.parallelism above one, which requires every topic validation
+ * to be thread safe, the topics are spread over a fork join pool of that many threads. The errors
+ * are returned in the order of the topics either way.
+ */
 public class TopologyValidator {
 
   private final Configuration config;
+  private List<TopologyValidation> topologyValidations;
+  private List<TopicValidation> topicValidations;
 
   public TopologyValidator(Configuration config) {
     this.config = config;
   }
 
   public List<String> validate(Topology topology) {
-    Stream<Either<Boolean, ValidationException>> streamOfTopologyResults =
-        validations().stream()
-            .filter(p -> p instanceof TopologyValidation)
+    loadValidations();
+    List<String> errors = new ArrayList<>();
+    for (TopologyValidation validation : topologyValidations) {
+      try {
+        validation.valid(topology);
+      } catch (ValidationException validationError) {
+        errors.add(validationError.getMessage());
+      }
+    }
+    if (topicValidations.isEmpty()) {
+      return errors;
+    }
+    List<Topic> topics =
+        topology.getProjects().stream().flatMap(project -> project.getTopics().stream()).toList();
+    errors.addAll(validateTopics(topics));
+    return errors;
+  }
+
+  private List<String> validateTopics(List<Topic> topics) {
+    int parallelism = Math.min(Math.max(config.getValidationParallelism(), 1), topics.size());
+    if (parallelism <= 1) {
+      return topics.stream().flatMap(this::validateTopic).toList();
+    }
+    // a parallel stream runs its tasks in the pool it is started from
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return pool.submit(() -> topics.parallelStream().flatMap(this::validateTopic).toList()).get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private Stream<String> validateTopic(Topic topic) {
+    List<String> errors = null;
+    for (TopicValidation validation : topicValidations) {
+      try {
+        validation.valid(topic);
+      } catch (ValidationException ex) {
+        if (errors == null) {
+          errors = new ArrayList<>();
+        }
+        errors.add(ex.getMessage());
+      }
+    }
+    return errors == null ? Stream.empty() : errors.stream();
+  }
+
+  private synchronized void loadValidations() {
+    if (topicValidations != null) {
+      return;
+    }
+    List<Validation> validations = validations();
+    topologyValidations =
+        validations.stream()
+            .filter(validation -> validation instanceof TopologyValidation)
             .map(validation -> (TopologyValidation) validation)
-            .map(
-                validation -> {
-                  try {
-                    validation.valid(topology);
-                    return Either.Left(true);
-                  } catch (ValidationException validationError) {
-                    return Either.Right(validationError);
-                  }
-                });
-    List<TopicValidation> listOfTopicValidations =
-        validations().stream()
-            .filter(p -> p instanceof TopicValidation)
+            .toList();
+    topicValidations =
+        validations.stream()
+            .filter(validation -> validation instanceof TopicValidation)
             .map(validation -> (TopicValidation) validation)
             .toList();
-    Stream<Topic> streamOfTopics =
-        topology.getProjects().stream()
-            .flatMap((Function<Project, Stream<Topic>>) project -> project.getTopics().stream());
-    Stream<Either<Boolean, ValidationException>> streamOfTopicResults =
-        streamOfTopics.flatMap(
-            (Function<Topic, Stream<Either<Boolean, ValidationException>>>)
-                topic ->
-                    listOfTopicValidations.stream()
-                        .map(
-                            validation -> {
-                              try {
-                                validation.valid(topic);
-                                return Either.Left(true);
-                              } catch (ValidationException ex) {
-                                return Either.Right(ex);
-                              }
-                            }));
-    return Stream.concat(streamOfTopologyResults, streamOfTopicResults)
-        .filter(Either::isRight)
-        .map(either -> either.getRight().get().getMessage())
-        .collect(Collectors.toList());
   }
 
   private List<Validation> validations() {
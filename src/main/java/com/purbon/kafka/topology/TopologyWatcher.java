@@ -0,0 +1,116 @@
+package com.purbon.kafka.topology;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Call back when files of the topology directory change, using the file system notifications
+ * (inotify on Linux) instead of listing the directory again and again. Bursts of changes, like an
+ * editor saving several files or a git checkout, are gathered into a single call once no change was
+ * seen for debounceMs. Sub directories are only watched when the descriptors are read recursively,
+ * including the ones created while watching.
+ */
+public class TopologyWatcher implements AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger(TopologyWatcher.class);
+
+  private final boolean recursive;
+  private final long debounceMs;
+  private final Runnable onChange;
+  private final WatchService watchService;
+  private final Map<WatchKey, Path> directories;
+  private final Thread thread;
+
+  public TopologyWatcher(Path directory, boolean recursive, long debounceMs, Runnable onChange)
+      throws IOException {
+    this.recursive = recursive;
+    this.debounceMs = debounceMs;
+    this.onChange = onChange;
+    this.watchService = FileSystems.getDefault().newWatchService();
+    this.directories = new ConcurrentHashMap<>();
+    this.thread = Thread.ofPlatform().daemon().name("topology-watcher").unstarted(this::watch);
+    register(directory);
+  }
+
+  public void start() {
+    thread.start();
+  }
+
+  private void register(Path directory) throws IOException {
+    if (!recursive) {
+      watchDirectory(directory);
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+        watchDirectory(path);
+      }
+    }
+  }
+
+  private void watchDirectory(Path directory) throws IOException {
+    WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    directories.put(key, directory);
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        drain(watchService.take());
+        // wait for the burst of changes to end
+        WatchKey key;
+        while ((key = watchService.poll(debounceMs, TimeUnit.MILLISECONDS)) != null) {
+          drain(key);
+        }
+        try {
+          onChange.run();
+        } catch (RuntimeException e) {
+          LOGGER.error("Failed to handle the topology changes", e);
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      LOGGER.debug("Stopped watching the topology files");
+    }
+  }
+
+  private void drain(WatchKey key) {
+    Path directory = directories.get(key);
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW || directory == null) {
+        continue;
+      }
+      Path path = directory.resolve((Path) event.context());
+      LOGGER.debug("Topology file {} {}", path, event.kind().name());
+      if (recursive && event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+        try {
+          register(path);
+        } catch (IOException e) {
+          LOGGER.warn("Could not watch the new directory " + path, e);
+        }
+      }
+    }
+    if (!key.reset()) {
+      directories.remove(key);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    thread.interrupt();
+    watchService.close();
+  }
+}
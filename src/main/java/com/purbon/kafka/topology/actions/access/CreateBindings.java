@@ -4,10 +4,10 @@ import com.purbon.kafka.topology.AccessControlProvider;
 import com.purbon.kafka.topology.actions.BaseAccessControlAction;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,7 +17,8 @@ public class CreateBindings extends BaseAccessControlAction {
 
   private final AccessControlProvider controlProvider;
 
-  public CreateBindings(AccessControlProvider controlProvider, Set<TopologyAclBinding> bindings) {
+  public CreateBindings(
+      AccessControlProvider controlProvider, Collection<TopologyAclBinding> bindings) {
     super(bindings);
     this.controlProvider = controlProvider;
   }
@@ -31,6 +31,14 @@ public class CreateTopicAction extends BaseAction {
     return fullTopicName;
   }
 
+  Topic getTopicObject() {
+    return topic;
+  }
+
+  TopologyBuilderAdminClient getAdminClient() {
+    return adminClient;
+  }
+
   @Override
   public void run() throws IOException {
     createTopic(topic, fullTopicName);
@@ -0,0 +1,106 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.BaseAction;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Create a batch of topics with a single request to the cluster. The output and the audit refs are
+ * the ones of the individual {@link CreateTopicAction}s that were merged into this action.
+ */
+public class CreateTopicsAction extends BaseAction {
+
+  private static final Logger LOGGER = LogManager.getLogger(CreateTopicsAction.class);
+
+  private final TopologyBuilderAdminClient adminClient;
+  private final List<CreateTopicAction> actions;
+
+  public CreateTopicsAction(
+      TopologyBuilderAdminClient adminClient, List<CreateTopicAction> actions) {
+    this.adminClient = adminClient;
+    this.actions = actions;
+  }
+
+  /**
+   * Merge adjacent {@link CreateTopicAction}s using the same admin client into batches of at most
+   * maxBatchSize topics. Every other action keeps its position in the list.
+   */
+  public static List<Action> coalesce(List<Action> plan, int maxBatchSize) {
+    List<Action> coalesced = new ArrayList<>();
+    List<CreateTopicAction> batch = new ArrayList<>();
+    for (Action action : plan) {
+      if (action instanceof CreateTopicAction
+          && (batch.isEmpty()
+              || batch.getFirst().getAdminClient()
+                  == ((CreateTopicAction) action).getAdminClient())) {
+        batch.add((CreateTopicAction) action);
+        if (batch.size() >= maxBatchSize) {
+          flush(batch, coalesced);
+        }
+      } else {
+        flush(batch, coalesced);
+        if (action instanceof CreateTopicAction) {
+          batch.add((CreateTopicAction) action);
+        } else {
+          coalesced.add(action);
+        }
+      }
+    }
+    flush(batch, coalesced);
+    return coalesced;
+  }
+
+  private static void flush(List<CreateTopicAction> batch, List<Action> coalesced) {
+    if (batch.size() == 1) {
+      coalesced.add(batch.getFirst());
+    } else if (batch.size() > 1) {
+      coalesced.add(new CreateTopicsAction(batch.getFirst().getAdminClient(), List.copyOf(batch)));
+    }
+    batch.clear();
+  }
+
+  public List<String> getTopics() {
+    return actions.stream().map(CreateTopicAction::getTopic).collect(Collectors.toList());
+  }
+
+  @Override
+  public void run() throws IOException {
+    Map<String, Topic> topics = new LinkedHashMap<>();
+    actions.forEach(action -> topics.put(action.getTopic(), action.getTopicObject()));
+    LOGGER.debug(String.format("Create new topics with names %s", topics.keySet()));
+    adminClient.createTopics(topics);
+  }
+
+  @Override
+  public String toString() {
+    return actions.stream()
+        .map(CreateTopicAction::toString)
+        .filter(s -> !s.isEmpty())
+        .collect(Collectors.joining(System.lineSeparator()));
+  }
+
+  @Override
+  protected Map<String, Object> props() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("Operation", getClass().getName());
+    map.put("Topics", getTopics());
+    map.put("Action", "create");
+    return map;
+  }
+
+  @Override
+  protected List<Map<String, Object>> detailedProps() {
+    return actions.stream()
+        .flatMap(action -> action.detailedProps().stream())
+        .collect(Collectors.toList());
+  }
+}
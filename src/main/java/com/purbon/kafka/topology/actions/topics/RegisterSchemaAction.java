@@ -31,6 +31,20 @@ public class RegisterSchemaAction extends BaseAction {
     return fullTopicName;
   }
 
+  /** Whether a subject of the topic changed since it was last synced with the registry. */
+  public boolean hasChanges() throws IOException {
+    for (Subject subject : subjects()) {
+      if (!schemaRegistryManager.isUpToDate(
+          subject.buildSubjectName(topic),
+          subject.getSchemaFile(),
+          subject.getFormat(),
+          subject.getOptionalCompatibility())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   public void run() throws IOException {
     registerSchemas(topic, fullTopicName);
@@ -38,24 +52,30 @@ public class RegisterSchemaAction extends BaseAction {
 
   private void registerSchemas(Topic topic, String fullTopicName) throws IOException {
     LOGGER.debug(String.format("Register schemas for topic %s", fullTopicName));
-    for (TopicSchemas schema : topic.getSchemas()) {
-      registerSchemaIfExists(schema.getKeySubject(), topic);
-      registerSchemaIfExists(schema.getValueSubject(), topic);
+    try {
+      for (Subject subject : subjects()) {
+        schemaRegistryManager.sync(
+            subject.buildSubjectName(topic),
+            subject.getSchemaFile(),
+            subject.getFormat(),
+            subject.getOptionalCompatibility());
+      }
+    } finally {
+      schemaRegistryManager.flushFingerprints();
     }
   }
 
-  private void registerSchemaIfExists(Subject subject, Topic topic) throws IOException {
-    if (subject.hasSchemaFile()) {
-      String keySchemaFile = subject.getSchemaFile();
-      String subjectName = subject.buildSubjectName(topic);
-      schemaRegistryManager.register(subjectName, keySchemaFile, subject.getFormat());
-      setCompatibility(subjectName, subject.getOptionalCompatibility());
+  private List<Subject> subjects() {
+    List<Subject> subjects = new ArrayList<>();
+    for (TopicSchemas schema : topic.getSchemas()) {
+      if (schema.getKeySubject().hasSchemaFile()) {
+        subjects.add(schema.getKeySubject());
+      }
+      if (schema.getValueSubject().hasSchemaFile()) {
+        subjects.add(schema.getValueSubject());
+      }
     }
-  }
-
-  private void setCompatibility(String subjectName, Optional<String> compatibilityOptional) {
-    compatibilityOptional.ifPresent(
-        compatibility -> schemaRegistryManager.setCompatibility(subjectName, compatibility));
+    return subjects;
   }
 
   @Override
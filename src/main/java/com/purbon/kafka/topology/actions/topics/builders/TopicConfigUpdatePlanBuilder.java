@@ -1,25 +1,41 @@
 package com.purbon.kafka.topology.actions.topics.builders;
 
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.api.adminclient.TopicsClusterSnapshot;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topic;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.Optional;
 import org.apache.kafka.clients.admin.Config;
 
 public class TopicConfigUpdatePlanBuilder {
 
   private TopologyBuilderAdminClient adminClient;
+  private TopicsClusterSnapshot snapshot;
 
   public TopicConfigUpdatePlanBuilder(TopologyBuilderAdminClient adminClient) {
+    this(adminClient, TopicsClusterSnapshot.empty());
+  }
+
+  /**
+   * Build update plans using the snapshot as source of the current cluster state, topics missing
+   * from the snapshot are described one by one using the admin client.
+   */
+  public TopicConfigUpdatePlanBuilder(
+      TopologyBuilderAdminClient adminClient, TopicsClusterSnapshot snapshot) {
     this.adminClient = adminClient;
+    this.snapshot = snapshot;
   }
 
   public TopicConfigUpdatePlan createTopicConfigUpdatePlan(Topic topic, String fullTopicName) {
-    Config currentKafkaConfigs = adminClient.getActualTopicConfig(fullTopicName);
+    Config currentKafkaConfigs =
+        snapshot
+            .getConfig(fullTopicName)
+            .orElseGet(() -> adminClient.getActualTopicConfig(fullTopicName));
     TopicConfigUpdatePlan topicConfigUpdatePlan = new TopicConfigUpdatePlan(topic);
     try {
-      if (topic.partitionsCount() > adminClient.getPartitionCount(fullTopicName)) {
+      if (topic.partitionsCount() > currentPartitionCount(fullTopicName)) {
         topicConfigUpdatePlan.setUpdatePartitionCount(true);
       }
     } catch (IOException e) {
@@ -30,4 +46,12 @@ public class TopicConfigUpdatePlanBuilder {
     topicConfigUpdatePlan.addDeletedConfigs(topicConfigs, currentKafkaConfigs);
     return topicConfigUpdatePlan;
   }
+
+  private int currentPartitionCount(String fullTopicName) throws IOException {
+    Optional<Integer> partitionCount = snapshot.getPartitionCount(fullTopicName);
+    if (partitionCount.isPresent()) {
+      return partitionCount.get();
+    }
+    return adminClient.getPartitionCount(fullTopicName);
+  }
 }
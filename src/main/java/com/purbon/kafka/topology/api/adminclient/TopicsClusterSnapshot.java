@@ -0,0 +1,59 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import com.purbon.kafka.topology.utils.Utils;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * In memory view of the configuration and partition count of a set of topics in the cluster. The
+ * snapshot is fetched in batches, so the number of remote calls depends on the number of batches
+ * and not on the number of topics.
+ */
+public class TopicsClusterSnapshot {
+
+  private static final Logger LOGGER = LogManager.getLogger(TopicsClusterSnapshot.class);
+
+  private final Map<String, Config> configs;
+  private final Map<String, Integer> partitionCounts;
+
+  public TopicsClusterSnapshot(Map<String, Config> configs, Map<String, Integer> partitionCounts) {
+    this.configs = configs;
+    this.partitionCounts = partitionCounts;
+  }
+
+  public static TopicsClusterSnapshot empty() {
+    return new TopicsClusterSnapshot(new HashMap<>(), new HashMap<>());
+  }
+
+  public static TopicsClusterSnapshot build(
+      TopologyBuilderAdminClient adminClient, Collection<String> topics, int batchSize)
+      throws IOException {
+    Map<String, Config> configs = new HashMap<>();
+    Map<String, Integer> partitionCounts = new HashMap<>();
+    List<List<String>> batches = Utils.partition(topics, batchSize);
+    for (List<String> batch : batches) {
+      configs.putAll(adminClient.getActualTopicConfigs(batch));
+      partitionCounts.putAll(adminClient.getPartitionCounts(batch));
+    }
+    LOGGER.debug(
+        String.format(
+            "Loaded snapshot of %d topics from the cluster in %d batches",
+            topics.size(), batches.size()));
+    return new TopicsClusterSnapshot(configs, partitionCounts);
+  }
+
+  public Optional<Config> getConfig(String topic) {
+    return Optional.ofNullable(configs.get(topic));
+  }
+
+  public Optional<Integer> getPartitionCount(String topic) {
+    return Optional.ofNullable(partitionCounts.get(topic));
+  }
+}
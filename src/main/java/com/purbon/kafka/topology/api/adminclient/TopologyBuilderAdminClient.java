@@ -15,10 +15,12 @@ import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigOp.OpType;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -118,6 +120,28 @@ public class TopologyBuilderAdminClient {
     }
   }
 
+  /**
+   * Fetch the partition count of a group of topics with a single describeTopics request. Topics
+   * that could not be described, for example because they were removed concurrently, are left out
+   * of the result.
+   */
+  public Map<String, Integer> getPartitionCounts(Collection<String> topics) throws IOException {
+    Map<String, Integer> counts = new HashMap<>();
+    Map<String, KafkaFuture<TopicDescription>> results =
+        adminClient.describeTopics(topics).topicNameValues();
+    for (Map.Entry<String, KafkaFuture<TopicDescription>> entry : results.entrySet()) {
+      try {
+        counts.put(entry.getKey(), entry.getValue().get().partitions().size());
+      } catch (ExecutionException e) {
+        LOGGER.debug("Failed to describe topic " + entry.getKey(), e);
+      } catch (InterruptedException e) {
+        LOGGER.error(e);
+        throw new IOException(e);
+      }
+    }
+    return counts;
+  }
+
   public void updatePartitionCount(Topic topic, String topicName) throws IOException {
     Map<String, NewPartitions> map = new HashMap<>();
     map.put(topicName, NewPartitions.increaseTo(topic.partitionsCount()));
@@ -132,6 +156,60 @@ public class TopologyBuilderAdminClient {
   public void clearAcls(TopologyAclBinding aclBinding) throws IOException {
     Collection<AclBindingFilter> filters = new ArrayList<>();
     LOGGER.debug("clearAcl = " + aclBinding);
+    filters.add(aclBindingFilter(aclBinding));
+    clearAcls(filters);
+  }
+
+  /**
+   * Delete the acls matching a group of bindings with a single deleteAcls request. The result of
+   * every filter is checked, failures are logged per binding and reported once all filters are
+   * processed.
+   */
+  public void clearAcls(Collection<TopologyAclBinding> aclBindings) throws IOException {
+    Map<AclBindingFilter, TopologyAclBinding> filters = new LinkedHashMap<>();
+    for (TopologyAclBinding aclBinding : aclBindings) {
+      filters.putIfAbsent(aclBindingFilter(aclBinding), aclBinding);
+    }
+    LOGGER.debug("clearAcls for " + filters.size() + " filters");
+    Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results =
+        adminClient.deleteAcls(filters.keySet()).values();
+    List<TopologyAclBinding> failedBindings = new ArrayList<>();
+    Throwable firstError = null;
+    for (Map.Entry<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> entry :
+        results.entrySet()) {
+      TopologyAclBinding aclBinding = filters.get(entry.getKey());
+      Throwable error;
+      try {
+        error =
+            entry.getValue().get().values().stream()
+                .map(DeleteAclsResult.FilterResult::exception)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+      } catch (ExecutionException e) {
+        error = e.getCause();
+      } catch (InterruptedException e) {
+        LOGGER.error(e);
+        throw new IOException(e);
+      }
+      if (error != null) {
+        LOGGER.error("Failed to delete acls matching " + aclBinding, error);
+        failedBindings.add(aclBinding);
+        if (firstError == null) {
+          firstError = error;
+        }
+      }
+    }
+    if (!failedBindings.isEmpty()) {
+      throw new IOException(
+          String.format(
+              "Failed to delete acls for %d of %d bindings, first failed binding: %s",
+              failedBindings.size(), filters.size(), failedBindings.getFirst()),
+          firstError);
+    }
+  }
+
+  private AclBindingFilter aclBindingFilter(TopologyAclBinding aclBinding) {
     ResourcePatternFilter resourceFilter =
         new ResourcePatternFilter(
             ResourceType.valueOf(aclBinding.getResourceType()),
@@ -143,9 +221,7 @@ public class TopologyBuilderAdminClient {
             aclBinding.getHost(),
             AclOperation.valueOf(aclBinding.getOperation()),
             AclPermissionType.ANY);
-    AclBindingFilter filter = new AclBindingFilter(resourceFilter, accessControlEntryFilter);
-    filters.add(filter);
-    clearAcls(filters);
+    return new AclBindingFilter(resourceFilter, accessControlEntryFilter);
   }
 
   private void clearAcls(Collection<AclBindingFilter> filters) throws IOException {
@@ -170,10 +246,33 @@ public class TopologyBuilderAdminClient {
     return configs.get(resource);
   }
 
+  /**
+   * Fetch the configuration of a group of topics with a single describeConfigs request. Topics
+   * that could not be described are left out of the result.
+   */
+  public Map<String, Config> getActualTopicConfigs(Collection<String> topics) {
+    List<ConfigResource> resources =
+        topics.stream()
+            .map(topic -> new ConfigResource(Type.TOPIC, topic))
+            .collect(Collectors.toList());
+    Map<String, Config> configs = new HashMap<>();
+    Map<ConfigResource, KafkaFuture<Config>> results =
+        adminClient.describeConfigs(resources).values();
+    for (Map.Entry<ConfigResource, KafkaFuture<Config>> entry : results.entrySet()) {
+      try {
+        configs.put(entry.getKey().name(), entry.getValue().get());
+      } catch (ExecutionException e) {
+        LOGGER.debug("Failed to describe configs for topic " + entry.getKey().name(), e);
+      } catch (InterruptedException e) {
+        LOGGER.error(e);
+        throw new RuntimeException(e);
+      }
+    }
+    return configs;
+  }
+
   public void createTopic(Topic topic, String fullTopicName) throws IOException {
-    NewTopic newTopic =
-        new NewTopic(fullTopicName, topic.getPartitionCount(), topic.replicationFactor())
-            .configs(topic.getRawConfig());
+    NewTopic newTopic = newTopic(topic, fullTopicName);
     try {
       createAllTopics(Collections.singleton(newTopic));
     } catch (ExecutionException | InterruptedException e) {
@@ -186,6 +285,49 @@ public class TopologyBuilderAdminClient {
     }
   }
 
+  /**
+   * Create a group of topics with a single createTopics request. Topics that already exist are
+   * ignored, every other failure is logged per topic and reported once all topics are processed.
+   *
+   * @param topics map of full topic name to topic
+   */
+  public void createTopics(Map<String, Topic> topics) throws IOException {
+    List<NewTopic> newTopics =
+        topics.entrySet().stream()
+            .map(entry -> newTopic(entry.getValue(), entry.getKey()))
+            .collect(Collectors.toList());
+    Map<String, KafkaFuture<Void>> results = adminClient.createTopics(newTopics).values();
+    List<String> failedTopics = new ArrayList<>();
+    Throwable firstError = null;
+    for (Map.Entry<String, KafkaFuture<Void>> entry : results.entrySet()) {
+      try {
+        entry.getValue().get();
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof TopicExistsException) {
+          LOGGER.info(e.getMessage());
+          continue;
+        }
+        LOGGER.error("Failed to create topic " + entry.getKey(), e.getCause());
+        failedTopics.add(entry.getKey());
+        if (firstError == null) {
+          firstError = e.getCause();
+        }
+      } catch (InterruptedException e) {
+        LOGGER.error(e);
+        throw new IOException(e);
+      }
+    }
+    if (!failedTopics.isEmpty()) {
+      throw new IOException(
+          "Failed to create topics: " + String.join(", ", failedTopics), firstError);
+    }
+  }
+
+  private NewTopic newTopic(Topic topic, String fullTopicName) {
+    return new NewTopic(fullTopicName, topic.getPartitionCount(), topic.replicationFactor())
+        .configs(topic.getRawConfig());
+  }
+
   private void createAllTopics(Collection<NewTopic> newTopics)
       throws ExecutionException, InterruptedException {
     adminClient.createTopics(newTopics).all().get();
@@ -2,14 +2,17 @@ package com.purbon.kafka.topology.api.ccloud;
 
 import static com.purbon.kafka.topology.Constants.MANAGED_BY;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.ccloud.requests.KafkaAclRequest;
 import com.purbon.kafka.topology.api.ccloud.requests.ServiceAccountRequest;
-import com.purbon.kafka.topology.api.ccloud.response.KafkaAclListResponse;
-import com.purbon.kafka.topology.api.ccloud.response.ListServiceAccountResponse;
 import com.purbon.kafka.topology.api.ccloud.response.ServiceAccountResponse;
 import com.purbon.kafka.topology.api.ccloud.response.ServiceAccountV1Response;
 import com.purbon.kafka.topology.clients.JulieHttpClient;
+import com.purbon.kafka.topology.clients.RequestPipeline;
+import com.purbon.kafka.topology.clients.TokenBucket;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.model.cluster.ServiceAccountV1;
 import com.purbon.kafka.topology.model.misc.Response;
@@ -17,10 +20,14 @@ import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -71,20 +78,57 @@ public class CCloudApi {
     clusterHttpClient.doDelete(request.deleteUrl());
   }
 
+  public CompletableFuture<Response> createAclAsync(
+      String clusterId, TopologyAclBinding binding) {
+    String url = String.format(V3_KAFKA_CLUSTER_ACL_PATTERN, clusterId);
+    var request =
+        new KafkaAclRequest(binding, String.format("%s%s", clusterHttpClient.baseUrl(), url));
+    try {
+      return clusterHttpClient.doPostAsync(url, JSON.asString(request));
+    } catch (JsonProcessingException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  public CompletableFuture<Response> deleteAclsAsync(
+      String clusterId, TopologyAclBinding binding) {
+    String url = String.format(V3_KAFKA_CLUSTER_ACL_PATTERN, clusterId);
+    KafkaAclRequest request = new KafkaAclRequest(binding, url);
+    return clusterHttpClient.doDeleteAsync(request.deleteUrl());
+  }
+
+  /** Pipeline used to send acl requests to the cluster, sized after the configuration. */
+  public RequestPipeline aclsRequestPipeline(Configuration config) {
+    return new RequestPipeline(
+        config.getConfluentCloudAclsRequestsInFlight(),
+        new TokenBucket(
+            config.getConfluentCloudAclsRequestsPerSecond(),
+            config.getConfluentCloudAclsRequestsInFlight()),
+        clusterHttpClient.getRetryPolicy(),
+        clusterHttpClient.baseUrl());
+  }
+
   public List<TopologyAclBinding> listAcls(String clusterId) throws IOException {
     String url = String.format(V3_KAFKA_CLUSTER_ACL_PATTERN, clusterId);
     List<TopologyAclBinding> acls = new ArrayList<>();
-    do {
-      Response rawResponse = clusterHttpClient.doGet(url);
-      KafkaAclListResponse response =
-          (KafkaAclListResponse)
-              JSON.toObject(rawResponse.getResponseAsString(), KafkaAclListResponse.class);
-      acls.addAll(response.getData().stream().map(TopologyAclBinding::new).toList());
-      url = response.getMetadata().getNext();
-    } while (url != null);
+    PagedListing.read(
+        url, clusterHttpClient::doGet, UnaryOperator.identity(), CCloudApi::readAcl, acls::add);
     return acls;
   }
 
+  private static TopologyAclBinding readAcl(JsonParser parser) throws IOException {
+    Map<String, String> fields = new HashMap<>();
+    PagedListing.readFields(parser, fields::put);
+    return new TopologyAclBinding(
+        fields.get("resource_type"),
+        fields.get("resource_name"),
+        fields.get("host"),
+        fields.get("operation"),
+        fields.get("principal"),
+        fields.get("pattern_type"),
+        fields.get("permission"));
+  }
+
   public ServiceAccount createServiceAccount(String sa) throws IOException {
     return createServiceAccount(sa, MANAGED_BY);
   }
@@ -109,31 +153,48 @@ public class CCloudApi {
   }
 
   public Set<ServiceAccount> listServiceAccounts() throws IOException {
-    String url = V2_IAM_SERVICE_ACCOUNTS_URL;
-    boolean finished;
     Set<ServiceAccount> accounts = new HashSet<>();
-    do {
-      ListServiceAccountResponse response = getListServiceAccounts(url, serviceAccountPageSize);
-      for (ServiceAccountResponse serviceAccountResponse : response.getData()) {
-        var resourceId = serviceAccountResponse.getMetadata().getResource_name();
-        var serviceAccount =
-            new ServiceAccount(
-                serviceAccountResponse.getId(),
-                serviceAccountResponse.getDisplay_name(),
-                serviceAccountResponse.getDescription(),
-                resourceId);
-        accounts.add(serviceAccount);
-      }
-      String nextUrl = response.getMetadata().getNext();
-      finished = nextUrl == null;
-      if (!finished) {
-        url = nextUrl.replace(ccloudApiBaseUrl, "");
-      }
-    } while (!finished);
-
+    PagedListing.read(
+        V2_IAM_SERVICE_ACCOUNTS_URL,
+        url -> getListServiceAccounts(url, serviceAccountPageSize),
+        nextUrl -> nextUrl.replace(ccloudApiBaseUrl, ""),
+        CCloudApi::readServiceAccount,
+        accounts::add);
     return accounts;
   }
 
+  private static ServiceAccount readServiceAccount(JsonParser parser) throws IOException {
+    Map<String, String> fields = new HashMap<>();
+    PagedListing.readFields(
+        parser,
+        new PagedListing.FieldConsumer() {
+          @Override
+          public void field(String name, String value) {
+            fields.put(name, value);
+          }
+
+          @Override
+          public boolean nested(String name, JsonParser parser) throws IOException {
+            if (!"metadata".equals(name) || parser.currentToken() != JsonToken.START_OBJECT) {
+              return false;
+            }
+            PagedListing.readFields(
+                parser,
+                (field, value) -> {
+                  if ("resource_name".equals(field)) {
+                    fields.put("resource_name", value);
+                  }
+                });
+            return true;
+          }
+        });
+    return new ServiceAccount(
+        fields.get("id"),
+        fields.get("display_name"),
+        fields.get("description"),
+        fields.get("resource_name"));
+  }
+
   public Set<ServiceAccountV1> listServiceAccountsV1() throws IOException {
     Set<ServiceAccountV1> accounts = new HashSet<>();
     ServiceAccountV1Response response = getServiceAccountsV1(V1_IAM_SERVICE_ACCOUNTS_URL);
@@ -149,14 +210,11 @@ public class CCloudApi {
         JSON.toObject(r.getResponseAsString(), ServiceAccountV1Response.class);
   }
 
-  private ListServiceAccountResponse getListServiceAccounts(String url, int page_size)
-      throws IOException {
+  private Response getListServiceAccounts(String url, int page_size) throws IOException {
     String requestUrl = url;
     if (!url.contains("page_token")) {
       requestUrl = String.format("%s?page_size=%d", url, page_size);
     }
-    Response r = ccloudApiHttpClient.doGet(requestUrl);
-    return (ListServiceAccountResponse)
-        JSON.toObject(r.getResponseAsString(), ListServiceAccountResponse.class);
+    return ccloudApiHttpClient.doGet(requestUrl);
   }
 }
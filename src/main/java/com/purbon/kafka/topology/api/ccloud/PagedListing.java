@@ -0,0 +1,142 @@
+package com.purbon.kafka.topology.api.ccloud;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.purbon.kafka.topology.model.misc.Response;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read every page of a Confluent Cloud list api. Pages are linked by the opaque cursor in
+ * metadata.next, so they can not be fetched in parallel, but the next page is requested as soon
+ * as its link is parsed, while the items of the current page are being decoded. Items are decoded
+ * straight from the json tokens into the objects returned to the caller, without building the
+ * response objects of the whole page first.
+ */
+final class PagedListing {
+
+  private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+  @FunctionalInterface
+  interface PageFetcher {
+    Response fetch(String url) throws IOException;
+  }
+
+  @FunctionalInterface
+  interface ItemReader<T> {
+    /** Read the item starting at the current START_OBJECT token, up to its END_OBJECT. */
+    T read(JsonParser parser) throws IOException;
+  }
+
+  private PagedListing() {}
+
+  /**
+   * @param nextUrl map the link to the next page into the url given to the fetcher
+   */
+  static <T> void read(
+      String firstUrl,
+      PageFetcher fetcher,
+      UnaryOperator<String> nextUrl,
+      ItemReader<T> itemReader,
+      Consumer<T> sink)
+      throws IOException {
+    CompletableFuture<Response> page = CompletableFuture.completedFuture(fetcher.fetch(firstUrl));
+    while (page != null) {
+      Response response = join(page);
+      page = null;
+      try (JsonParser parser = JSON.parser(response.getResponseAsString())) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+          throw new IOException("Unexpected list response: " + response.getResponseAsString());
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.currentName();
+          JsonToken token = parser.nextToken();
+          if ("metadata".equals(field) && token == JsonToken.START_OBJECT) {
+            String next = readNext(parser);
+            if (next != null) {
+              page = prefetch(fetcher, nextUrl.apply(next));
+            }
+          } else if ("data".equals(field) && token == JsonToken.START_ARRAY) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+              sink.accept(itemReader.read(parser));
+            }
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        if (page != null) {
+          page.cancel(true);
+        }
+        throw e;
+      }
+    }
+  }
+
+  /** Read the string fields of the object starting at the current token, nested ones skipped. */
+  static void readFields(JsonParser parser, FieldConsumer consumer) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+        if (!consumer.nested(field, parser)) {
+          parser.skipChildren();
+        }
+      } else {
+        consumer.field(field, token == JsonToken.VALUE_NULL ? null : parser.getText());
+      }
+    }
+  }
+
+  interface FieldConsumer {
+    void field(String name, String value);
+
+    /** Read a nested object or array, return false to skip it. */
+    default boolean nested(String name, JsonParser parser) throws IOException {
+      return false;
+    }
+  }
+
+  private static String readNext(JsonParser parser) throws IOException {
+    String[] next = new String[1];
+    readFields(
+        parser,
+        (name, value) -> {
+          if ("next".equals(name)) {
+            next[0] = value;
+          }
+        });
+    return next[0];
+  }
+
+  private static CompletableFuture<Response> prefetch(PageFetcher fetcher, String url) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return fetcher.fetch(url);
+          } catch (IOException e) {
+            throw new CompletionException(e);
+          }
+        },
+        EXECUTOR);
+  }
+
+  private static Response join(CompletableFuture<Response> page) throws IOException {
+    try {
+      return page.join();
+    } catch (CompletionException | CancellationException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.purbon.kafka.topology.api.ccloud;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.utils.CCloudUtils;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Service accounts of a Confluent Cloud organization, shared by the acl and the principal providers
+ * of a JulieOps instance, which owns the cache. The paged listing of the accounts is done once and
+ * kept for ttlMs, creations and deletions done through JulieOps update the cached accounts instead
+ * of listing them again. The name to numeric id table used to translate acl principals is built
+ * from the cached accounts, only the non paged listing of the v1 accounts is redone after an
+ * account was created.
+ */
+public class ServiceAccountsCache {
+
+  private static final Logger LOGGER = LogManager.getLogger(ServiceAccountsCache.class);
+
+  private final CCloudApi api;
+  private final long ttlNanos;
+
+  private Set<ServiceAccount> accounts;
+  private long loadedAtNanos;
+  private Map<String, Long> lookupTable;
+
+  public ServiceAccountsCache(CCloudApi api, long ttlMs) {
+    this.api = api;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+  }
+
+  /** A cache of the organization of the configuration. */
+  public static ServiceAccountsCache build(Configuration config) throws IOException {
+    return new ServiceAccountsCache(
+        new CCloudApi(config.getConfluentCloudClusterUrl(), config),
+        config.getConfluentCloudServiceAccountCacheTtlMs());
+  }
+
+  public synchronized Set<ServiceAccount> listServiceAccounts() throws IOException {
+    return new HashSet<>(accounts());
+  }
+
+  /** Numeric ids of the service accounts by name, as required by the acls api. */
+  public synchronized Map<String, Long> lookupTable() throws IOException {
+    Set<ServiceAccount> current = accounts();
+    if (lookupTable == null) {
+      lookupTable = CCloudUtils.buildLookupTable(current, api.listServiceAccountsV1());
+    }
+    return new HashMap<>(lookupTable);
+  }
+
+  public synchronized void added(ServiceAccount serviceAccount) {
+    if (accounts != null) {
+      accounts.add(serviceAccount);
+    }
+    // the numeric id of the new account is only known by the v1 api
+    lookupTable = null;
+  }
+
+  public synchronized void removed(ServiceAccount serviceAccount) {
+    if (accounts != null) {
+      accounts.removeIf(account -> account.getId().equals(serviceAccount.getId()));
+    }
+    if (lookupTable != null) {
+      lookupTable.remove(serviceAccount.getName());
+    }
+  }
+
+  /** Forget the cached accounts, the next lookups list them again. */
+  public synchronized void invalidate() {
+    accounts = null;
+    lookupTable = null;
+  }
+
+  private Set<ServiceAccount> accounts() throws IOException {
+    if (accounts == null || System.nanoTime() - loadedAtNanos >= ttlNanos) {
+      LOGGER.debug("Listing the Confluent Cloud service accounts");
+      accounts = new HashSet<>(api.listServiceAccounts());
+      loadedAtNanos = System.nanoTime();
+      lookupTable = null;
+    }
+    return accounts;
+  }
+}
@@ -0,0 +1,289 @@
+package com.purbon.kafka.topology.backend;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import org.apache.kafka.common.record.CompressionType;
+import org.xerial.snappy.SnappyInputStream;
+import org.xerial.snappy.SnappyOutputStream;
+
+/**
+ * Encode and decode the {@link BackendState}, either as JSON or in a versioned binary format.
+ *
+ * <p>The binary format starts with a magic header, a version and the compression type, followed by
+ * the (optionally compressed) body. The body holds a dictionary of every string of the state, so
+ * principals, resource names and enum values repeated across bindings are stored once, and the
+ * entities as references into the dictionary. {@link #decode(byte[])} detects the format, so a
+ * backend can switch format and still read the previously stored state.
+ *
+ * <p>The body is compressed with the standard stream of each codec, gzip, snappy framing, lz4 frame
+ * and zstd frame, which are also the streams of the Kafka record batches, so the compression type
+ * is stored as its Kafka id.
+ */
+public final class BackendStateCodec {
+
+  public enum Format {
+    JSON,
+    BINARY
+  }
+
+  private static final byte[] MAGIC = {0x00, 'J', 'S', 'B'};
+  private static final byte VERSION = 1;
+
+  private final Format format;
+  private final CompressionType compression;
+  private final boolean prettyJson;
+
+  public BackendStateCodec(Format format, CompressionType compression, boolean prettyJson) {
+    this.format = format;
+    this.compression = compression;
+    this.prettyJson = prettyJson;
+  }
+
+  public static BackendStateCodec json(boolean prettyJson) {
+    return new BackendStateCodec(Format.JSON, CompressionType.NONE, prettyJson);
+  }
+
+  public static BackendStateCodec fromConfig(Configuration config, boolean prettyJson) {
+    return new BackendStateCodec(
+        config.getStateFormat(), config.getStateCompression(), prettyJson);
+  }
+
+  public Format getFormat() {
+    return format;
+  }
+
+  public byte[] encode(BackendState state) throws IOException {
+    if (format == Format.JSON) {
+      String json = prettyJson ? state.asPrettyJson() : state.asJson();
+      return json.getBytes(StandardCharsets.UTF_8);
+    }
+    return encodeBinary(state);
+  }
+
+  /** Decode a state stored in any of the supported formats. */
+  public static BackendState decode(byte[] bytes) throws IOException {
+    if (isBinary(bytes)) {
+      return decodeBinary(bytes);
+    }
+    return (BackendState)
+        JSON.toObject(new String(bytes, StandardCharsets.UTF_8), BackendState.class);
+  }
+
+  public static boolean isBinary(byte[] bytes) {
+    return bytes.length > MAGIC.length
+        && Arrays.equals(Arrays.copyOf(bytes, MAGIC.length), MAGIC);
+  }
+
+  private byte[] encodeBinary(BackendState state) throws IOException {
+    Map<String, Integer> dictionary = new HashMap<>();
+    List<String> strings = new ArrayList<>();
+    ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+    DataOutputStream body = new DataOutputStream(bodyBytes);
+
+    writeVarint(body, state.getTopics().size());
+    for (String topic : state.getTopics()) {
+      writeRef(body, topic, dictionary, strings);
+    }
+    writeVarint(body, state.getBindings().size());
+    for (TopologyAclBinding binding : state.getBindings()) {
+      writeRef(body, binding.getResourceType(), dictionary, strings);
+      writeRef(body, binding.getResourceName(), dictionary, strings);
+      writeRef(body, binding.getHost(), dictionary, strings);
+      writeRef(body, binding.getOperation(), dictionary, strings);
+      writeRef(body, binding.getPrincipal(), dictionary, strings);
+      writeRef(body, binding.getPattern(), dictionary, strings);
+      writeRef(body, binding.getPermissionType(), dictionary, strings);
+    }
+    writeJsonEntities(body, state.getAccounts(), dictionary, strings);
+    writeJsonEntities(body, state.getConnectors(), dictionary, strings);
+    writeJsonEntities(body, state.getKSqlStreams(), dictionary, strings);
+    writeJsonEntities(body, state.getKSqlTables(), dictionary, strings);
+    body.flush();
+
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(bodyBytes.size() + 1024);
+    buffer.write(MAGIC);
+    buffer.write(VERSION);
+    buffer.write((byte) compression.id);
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(wrapForOutput(buffer, compression)))) {
+      writeVarint(out, strings.size());
+      for (String string : strings) {
+        byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, utf8.length);
+        out.write(utf8);
+      }
+      bodyBytes.writeTo(out);
+    }
+    return buffer.toByteArray();
+  }
+
+  private static BackendState decodeBinary(byte[] bytes) throws IOException {
+    int version = bytes[MAGIC.length];
+    if (version > VERSION) {
+      throw new IOException("Don't know how to handle state format version " + version);
+    }
+    CompressionType compression = CompressionType.forId(bytes[MAGIC.length + 1]);
+    int headerSize = MAGIC.length + 2;
+    InputStream payload = new ByteArrayInputStream(bytes, headerSize, bytes.length - headerSize);
+    BackendState state = new BackendState();
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(wrapForInput(payload, compression)))) {
+      String[] strings = new String[readVarint(in)];
+      for (int i = 0; i < strings.length; i++) {
+        byte[] utf8 = new byte[readVarint(in)];
+        in.readFully(utf8);
+        strings[i] = new String(utf8, StandardCharsets.UTF_8);
+      }
+
+      int numTopics = readVarint(in);
+      List<String> topics = new ArrayList<>(numTopics);
+      for (int i = 0; i < numTopics; i++) {
+        topics.add(readRef(in, strings));
+      }
+      state.addTopics(topics);
+
+      int numBindings = readVarint(in);
+      List<TopologyAclBinding> bindings = new ArrayList<>(numBindings);
+      for (int i = 0; i < numBindings; i++) {
+        bindings.add(
+            TopologyAclBinding.build(
+                readRef(in, strings),
+                readRef(in, strings),
+                readRef(in, strings),
+                readRef(in, strings),
+                readRef(in, strings),
+                readRef(in, strings),
+                readRef(in, strings)));
+      }
+      state.addBindings(bindings);
+
+      state.addAccounts(readJsonEntities(in, strings, ServiceAccount.class));
+      state.addConnectors(readJsonEntities(in, strings, KafkaConnectArtefact.class));
+      state.addKSqlStreams(readJsonEntities(in, strings, KsqlStreamArtefact.class));
+      state.addKSqlTables(readJsonEntities(in, strings, KsqlTableArtefact.class));
+    }
+    return state;
+  }
+
+  private static OutputStream wrapForOutput(OutputStream out, CompressionType compression)
+      throws IOException {
+    return switch (compression) {
+      case NONE -> out;
+      case GZIP -> new GZIPOutputStream(out);
+      case SNAPPY -> new SnappyOutputStream(out);
+      case LZ4 -> new LZ4FrameOutputStream(out);
+      case ZSTD -> new ZstdOutputStream(out);
+      default -> throw new IOException("Unsupported state compression " + compression);
+    };
+  }
+
+  private static InputStream wrapForInput(InputStream in, CompressionType compression)
+      throws IOException {
+    return switch (compression) {
+      case NONE -> in;
+      case GZIP -> new GZIPInputStream(in);
+      case SNAPPY -> new SnappyInputStream(in);
+      case LZ4 -> new LZ4FrameInputStream(in);
+      case ZSTD -> new ZstdInputStream(in);
+      default -> throw new IOException("Unsupported state compression " + compression);
+    };
+  }
+
+  private static void writeJsonEntities(
+      DataOutputStream out,
+      Collection<?> entities,
+      Map<String, Integer> dictionary,
+      List<String> strings)
+      throws IOException {
+    writeVarint(out, entities.size());
+    for (Object entity : entities) {
+      writeRef(out, JSON.asString(entity), dictionary, strings);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> readJsonEntities(
+      DataInputStream in, String[] strings, Class<T> clazz) throws IOException {
+    int size = readVarint(in);
+    List<T> entities = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      entities.add((T) JSON.toObject(readRef(in, strings), clazz));
+    }
+    return entities;
+  }
+
+  private static void writeRef(
+      DataOutputStream out, String value, Map<String, Integer> dictionary, List<String> strings)
+      throws IOException {
+    if (value == null) {
+      writeVarint(out, 0);
+      return;
+    }
+    Integer ref = dictionary.get(value);
+    if (ref == null) {
+      strings.add(value);
+      ref = strings.size();
+      dictionary.put(value, ref);
+    }
+    writeVarint(out, ref);
+  }
+
+  /** Reference 0 is null, any other reference is the position in the dictionary plus one. */
+  private static String readRef(DataInputStream in, String[] strings) throws IOException {
+    int ref = readVarint(in);
+    if (ref > strings.length) {
+      throw new IOException("Invalid dictionary reference " + ref + " in state");
+    }
+    return ref == 0 ? null : strings[ref - 1];
+  }
+
+  private static void writeVarint(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarint(DataInputStream in) throws IOException {
+    int value = 0;
+    int shift = 0;
+    int b;
+    do {
+      if (shift > 28) {
+        throw new IOException("Invalid varint in state");
+      }
+      b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+}
@@ -3,8 +3,9 @@ package com.purbon.kafka.topology.backend;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.purbon.kafka.topology.BackendController.Mode;
-import com.purbon.kafka.topology.utils.JSON;
+import com.purbon.kafka.topology.Configuration;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,12 +16,19 @@ public class FileBackend implements Backend {
 
   private static final Logger LOGGER = LogManager.getLogger(FileBackend.class);
 
-  // Use FileWriter instead of RandomAccessFile due to
+  // Use FileOutputStream instead of RandomAccessFile due to
   // https://bugs.java.com/bugdatabase/view_bug.do?bug_id=4715154
-  private FileWriter writer;
+  private FileOutputStream writer;
+  private BackendStateCodec codec;
 
   public FileBackend() {
     this.writer = null;
+    this.codec = BackendStateCodec.json(true);
+  }
+
+  @Override
+  public void configure(Configuration config) {
+    this.codec = BackendStateCodec.fromConfig(config, true);
   }
 
   @Override
@@ -34,7 +42,7 @@ public class FileBackend implements Backend {
       if (this.writer != null) {
         writer.close();
       }
-      this.writer = new FileWriter(STATE_FILE_NAME, !Mode.TRUNCATE.equals(mode));
+      this.writer = new FileOutputStream(STATE_FILE_NAME, !Mode.TRUNCATE.equals(mode));
     } catch (IOException e) {
       LOGGER.error(e);
     }
@@ -42,7 +50,7 @@ public class FileBackend implements Backend {
 
   @Override
   public void save(BackendState state) throws IOException {
-    writeText(state.asPrettyJson());
+    write(codec.encode(state));
   }
 
   @Override
@@ -55,16 +63,19 @@ public class FileBackend implements Backend {
   }
 
   BackendState load(Path stateFilePath) throws IOException {
-    String backendStateAsJsonString = Files.readString(stateFilePath);
-    if (OldFileBackendLoader.isControlTag(backendStateAsJsonString.split("\\r?\\n")[0])) {
-      return new OldFileBackendLoader().load(stateFilePath.toFile());
+    byte[] backendStateBytes = Files.readAllBytes(stateFilePath);
+    if (!BackendStateCodec.isBinary(backendStateBytes)) {
+      String backendStateAsString = new String(backendStateBytes, StandardCharsets.UTF_8);
+      if (OldFileBackendLoader.isControlTag(backendStateAsString.split("\\r?\\n")[0])) {
+        return new OldFileBackendLoader().load(stateFilePath.toFile());
+      }
     }
-    return (BackendState) JSON.toObject(backendStateAsJsonString, BackendState.class);
+    return BackendStateCodec.decode(backendStateBytes);
   }
 
-  private void writeText(String text) throws IOException {
+  private void write(byte[] bytes) throws IOException {
     try {
-      writer.write(text);
+      writer.write(bytes);
     } catch (IOException e) {
       LOGGER.error(e);
       throw e;
@@ -4,10 +4,8 @@ import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.google.cloud.storage.*;
 import com.purbon.kafka.topology.Configuration;
-import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,6 +15,7 @@ public class GCPBackend implements Backend {
 
   private Storage storage;
   private Configuration config;
+  private BackendStateCodec codec;
 
   @Override
   public void configure(Configuration config) {
@@ -25,6 +24,7 @@ public class GCPBackend implements Backend {
 
   public void configure(Configuration config, URI endpoint) {
     this.config = config;
+    this.codec = BackendStateCodec.fromConfig(config, false);
     this.storage =
         StorageOptions.newBuilder().setProjectId(config.getGCPProjectId()).build().getService();
   }
@@ -36,7 +36,7 @@ public class GCPBackend implements Backend {
     try {
       storage.create(
           blobInfo,
-          state.asJson().getBytes(StandardCharsets.UTF_8),
+          codec.encode(state),
           Storage.BlobTargetOption.detectContentType());
     } catch (Exception ex) {
       LOGGER.error(ex);
@@ -48,8 +48,7 @@ public class GCPBackend implements Backend {
   public BackendState load() throws IOException {
     try {
       Blob blob = storage.get(BlobId.of(config.getGCPBucket(), STATE_FILE_NAME));
-      String contentJson = new String(blob.getContent(), StandardCharsets.UTF_8);
-      return (BackendState) JSON.toObject(contentJson, BackendState.class);
+      return BackendStateCodec.decode(blob.getContent());
     } catch (Exception ex) {
       LOGGER.error(ex);
       throw new IOException(ex);
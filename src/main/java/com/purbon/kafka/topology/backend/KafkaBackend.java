@@ -5,6 +5,8 @@ import com.purbon.kafka.topology.backend.kafka.ByteArrayChunker;
 import com.purbon.kafka.topology.backend.kafka.KafkaBackendConsumer;
 import com.purbon.kafka.topology.backend.kafka.KafkaBackendProducer;
 import com.purbon.kafka.topology.backend.kafka.KafkaBackendTopicCreator;
+import com.purbon.kafka.topology.backend.kafka.StateDeltaLog;
+import java.util.Map;
 
 public class KafkaBackend implements Backend {
 
@@ -12,12 +14,29 @@ public class KafkaBackend implements Backend {
   private KafkaBackendProducer producer;
   private boolean isDryRun = false;
   private boolean topicWasJustCreated = false;
+  private boolean isDeltaEnabled = false;
+  private int snapshotInterval;
+  private StateDeltaLog deltaLog;
+  private BackendState loadedState;
 
   public KafkaBackend() {}
 
+  KafkaBackend(
+      Configuration config, KafkaBackendConsumer consumer, KafkaBackendProducer producer) {
+    this.isDryRun = config.isDryRun();
+    this.isDeltaEnabled = config.isKafkaBackendDeltaEnabled();
+    this.snapshotInterval = config.getKafkaBackendSnapshotInterval();
+    this.deltaLog = new StateDeltaLog(config.getJulieInstanceId());
+    this.consumer = consumer;
+    this.producer = producer;
+  }
+
   @Override
   public void configure(Configuration config) {
     isDryRun = config.isDryRun();
+    isDeltaEnabled = config.isKafkaBackendDeltaEnabled();
+    snapshotInterval = config.getKafkaBackendSnapshotInterval();
+    deltaLog = new StateDeltaLog(config.getJulieInstanceId());
     final ByteArrayChunker chunker = new ByteArrayChunker(config.getKafkaBackendChunkSize());
     final KafkaBackendTopicCreator topicCreator = new KafkaBackendTopicCreator(config);
     topicCreator.configure();
@@ -30,7 +49,22 @@ public class KafkaBackend implements Backend {
 
   @Override
   public void save(BackendState state) {
-    producer.save(state);
+    if (isDryRun || !isDeltaEnabled) {
+      producer.save(state);
+      return;
+    }
+    if (loadedState != null && consumer.getSnapshotOffset() >= 0) {
+      Map<String, byte[]> delta = deltaLog.diff(loadedState, state);
+      if (consumer.getDeltasSinceSnapshot() + delta.size() <= snapshotInterval) {
+        producer.saveDelta(delta);
+        // a state kept loaded, as by the daemon, is not read again to count them
+        consumer.deltasWritten(delta.size());
+        loadedState = copyOf(state);
+        return;
+      }
+    }
+    consumer.commitSnapshot(producer.saveSnapshot(state));
+    loadedState = copyOf(state);
   }
 
   @Override
@@ -38,7 +72,20 @@ public class KafkaBackend implements Backend {
     if (isDryRun && topicWasJustCreated) {
       return new BackendState();
     }
-    return consumer.load();
+    BackendState state = consumer.load();
+    loadedState = copyOf(state);
+    return state;
+  }
+
+  private static BackendState copyOf(BackendState state) {
+    BackendState copy = new BackendState();
+    copy.addBindings(state.getBindings());
+    copy.addAccounts(state.getAccounts());
+    copy.addTopics(state.getTopics());
+    copy.addConnectors(state.getConnectors());
+    copy.addKSqlStreams(state.getKSqlStreams());
+    copy.addKSqlTables(state.getKSqlTables());
+    return copy;
   }
 
   @Override
@@ -2,8 +2,8 @@ package com.purbon.kafka.topology.backend;
 
 import com.purbon.kafka.topology.BackendController.Mode;
 import com.purbon.kafka.topology.Configuration;
-import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -15,18 +15,27 @@ public class RedisBackend implements Backend {
 
   private final String bucket;
   private final Jedis jedis;
+  private final BackendStateCodec codec;
 
   public RedisBackend(String host, int port, String bucket) {
     this(new Jedis(host, port), bucket);
   }
 
   public RedisBackend(Jedis jedis, String bucket) {
+    this(jedis, bucket, BackendStateCodec.json(true));
+  }
+
+  public RedisBackend(Jedis jedis, String bucket, BackendStateCodec codec) {
     this.jedis = jedis;
     this.bucket = bucket;
+    this.codec = codec;
   }
 
   public RedisBackend(Configuration config) {
-    this(config.getRedisHost(), config.getRedisPort(), config.getRedisBucket());
+    this(
+        new Jedis(config.getRedisHost(), config.getRedisPort()),
+        config.getRedisBucket(),
+        BackendStateCodec.fromConfig(config, true));
   }
 
   @Override
@@ -50,15 +59,25 @@ public class RedisBackend implements Backend {
   @Override
   public void save(BackendState state) throws IOException {
     LOGGER.debug("Storing state for: " + state);
-    jedis.set(bucket, state.asPrettyJson());
+    byte[] content = codec.encode(state);
+    if (codec.getFormat() == BackendStateCodec.Format.JSON) {
+      jedis.set(bucket, new String(content, StandardCharsets.UTF_8));
+    } else {
+      jedis.set(bucketKey(), content);
+    }
   }
 
   @Override
   public BackendState load() throws IOException {
     connectIfNeed();
-    Optional<String> contentOptional = Optional.ofNullable(jedis.get(bucket));
-    LOGGER.debug("Loading a new state instance: " + contentOptional);
-    return (BackendState) JSON.toObject(contentOptional.orElse("{}"), BackendState.class);
+    Optional<byte[]> contentOptional = Optional.ofNullable(jedis.get(bucketKey()));
+    LOGGER.debug(
+        "Loading a new state instance of " + contentOptional.map(c -> c.length) + " bytes");
+    return BackendStateCodec.decode(contentOptional.orElse("{}".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private byte[] bucketKey() {
+    return bucket.getBytes(StandardCharsets.UTF_8);
   }
 
   private void connectIfNeed() {
@@ -3,10 +3,8 @@ package com.purbon.kafka.topology.backend;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.purbon.kafka.topology.Configuration;
-import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
@@ -23,6 +21,7 @@ public class S3Backend implements Backend {
 
   private S3Client s3;
   private Configuration config;
+  private BackendStateCodec codec;
 
   @Override
   public void configure(Configuration config) {
@@ -32,6 +31,7 @@ public class S3Backend implements Backend {
   // Visible and used for tests
   public void configure(Configuration config, boolean anonymous) {
     this.config = config;
+    this.codec = BackendStateCodec.fromConfig(config, false);
     S3ClientBuilder builder = S3Client.builder().region(Region.of(config.getS3Region()));
     String endpoint = config.getS3Endpoint();
     if (!endpoint.isBlank()) {
@@ -46,14 +46,14 @@ public class S3Backend implements Backend {
 
   @Override
   public void save(BackendState state) throws IOException {
-    flushRemoteStateContent(state.asJson(), STATE_FILE_NAME);
+    flushRemoteStateContent(codec.encode(state), STATE_FILE_NAME);
   }
 
   @Override
   public BackendState load() {
     try {
-      String content = getRemoteStateContent(STATE_FILE_NAME);
-      return (BackendState) JSON.toObject(content, BackendState.class);
+      byte[] content = getRemoteStateContent(STATE_FILE_NAME);
+      return BackendStateCodec.decode(content);
     } catch (IOException ex) {
       LOGGER.debug(ex);
       return new BackendState();
@@ -65,24 +65,24 @@ public class S3Backend implements Backend {
     s3.close();
   }
 
-  private String getRemoteStateContent(String key) throws IOException {
+  private byte[] getRemoteStateContent(String key) throws IOException {
     GetObjectRequest request =
         GetObjectRequest.builder().key(key).bucket(config.getS3Bucket()).build();
     try {
       ResponseBytes<GetObjectResponse> objectBytes = s3.getObjectAsBytes(request);
-      return objectBytes.asString(StandardCharsets.UTF_8);
+      return objectBytes.asByteArray();
     } catch (S3Exception ex) {
       LOGGER.debug(ex);
       throw new IOException(ex);
     }
   }
 
-  private String flushRemoteStateContent(String content, String key) throws IOException {
+  private String flushRemoteStateContent(byte[] content, String key) throws IOException {
     PutObjectRequest request =
         PutObjectRequest.builder().bucket(config.getS3Bucket()).key(key).build();
     try {
       PutObjectResponse response =
-          s3.putObject(request, RequestBody.fromString(content, StandardCharsets.UTF_8));
+          s3.putObject(request, RequestBody.fromBytes(content));
       return response.eTag();
     } catch (S3Exception ex) {
       LOGGER.error(ex);
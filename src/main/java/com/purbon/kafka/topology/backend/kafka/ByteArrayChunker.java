@@ -18,6 +18,7 @@ public final class ByteArrayChunker {
 
   private static final int VERSION = 1;
   private static final int MIN_CHUNK_SIZE = 16;
+  private static final int HEADER_SIZE = 5;
   private final int chunkSize;
 
   public ByteArrayChunker(final int chunkSize) {
@@ -78,6 +79,25 @@ public final class ByteArrayChunker {
     return bytes;
   }
 
+  /**
+   * Check if the chunks, starting with a first chunk carrying the header, hold all the bytes of the
+   * original array.
+   */
+  public boolean isComplete(final List<byte[]> chunks) {
+    Objects.requireNonNull(chunks);
+    if (chunks.isEmpty()) {
+      return false;
+    }
+    final ByteArrayInputStream bais = new ByteArrayInputStream(chunks.getFirst());
+    bais.read();
+    final int numBytes = readInt(bais);
+    long bytesRead = -HEADER_SIZE;
+    for (final byte[] chunk : chunks) {
+      bytesRead += chunk.length;
+    }
+    return bytesRead >= numBytes;
+  }
+
   private static void writeInt(final ByteArrayOutputStream baos, final int i) {
     baos.write((i >> 24) & 0xff);
     baos.write((i >> 16) & 0xff);
@@ -2,32 +2,48 @@ package com.purbon.kafka.topology.backend.kafka;
 
 import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.backend.BackendState;
-import com.purbon.kafka.topology.utils.JSON;
-import java.nio.charset.StandardCharsets;
+import com.purbon.kafka.topology.backend.BackendStateCodec;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class KafkaBackendConsumer {
 
+  private static final Logger LOGGER = LogManager.getLogger(KafkaBackendConsumer.class);
+  private static final String SNAPSHOT_MARKER_PREFIX = "julie-state-snapshot:";
+
   private String instanceId;
   private Configuration config;
-  private KafkaConsumer<String, byte[]> consumer;
+  private Consumer<String, byte[]> consumer;
   private ByteArrayChunker chunker;
+  private StateDeltaLog deltaLog;
+  private long snapshotOffset = -1;
+  private long deltasSinceSnapshot = 0;
 
   public KafkaBackendConsumer(Configuration config, ByteArrayChunker chunker) {
     this.config = config;
     this.chunker = chunker;
     this.instanceId = config.getJulieInstanceId();
+    this.deltaLog = new StateDeltaLog(instanceId);
+  }
+
+  public KafkaBackendConsumer(
+      Configuration config, ByteArrayChunker chunker, Consumer<String, byte[]> consumer) {
+    this(config, chunker);
+    this.consumer = consumer;
   }
 
   public void configure() {
@@ -43,35 +59,123 @@ public class KafkaBackendConsumer {
     consumer.close();
   }
 
+  /**
+   * Load the state replaying the state topic. When a snapshot marker of this instance is found in
+   * the committed offset of the consumer group, the replay starts at the latest snapshot instead of
+   * the beginning of the topic. Snapshots replace the state, delta records are applied on top.
+   */
   public BackendState load() {
-    Map<String, byte[]> map = new TreeMap<>(Comparator.comparing((String x) -> x));
     TopicPartition topicPartition = new TopicPartition(config.getKafkaBackendStateTopic(), 0);
     Collection<TopicPartition> topicPartitions = Collections.singletonList(topicPartition);
     consumer.assign(topicPartitions);
     consumer.seekToEnd(topicPartitions);
     long lastOffset = consumer.position(topicPartition);
-    consumer.seekToBeginning(topicPartitions);
-    for (; ; ) {
+    OffsetAndMetadata marker =
+        consumer.committed(Collections.singleton(topicPartition)).get(topicPartition);
+    BackendState state = null;
+    if (marker != null && snapshotMarker().equals(marker.metadata())) {
+      state = replay(topicPartition, lastOffset, marker.offset());
+      if (state == null) {
+        LOGGER.warn("Snapshot marker does not point to a state snapshot, replaying the topic");
+      }
+    }
+    if (state == null) {
+      state = replay(topicPartition, lastOffset, -1);
+    }
+    if (snapshotOffset >= 0) {
+      commitSnapshot(snapshotOffset);
+    } else {
+      consumer.commitSync();
+    }
+    return state;
+  }
+
+  private BackendState replay(TopicPartition topicPartition, long lastOffset, long startOffset) {
+    if (startOffset >= 0) {
+      if (startOffset >= lastOffset) {
+        return null;
+      }
+      consumer.seek(topicPartition, startOffset);
+    } else {
+      consumer.seekToBeginning(Collections.singletonList(topicPartition));
+    }
+    snapshotOffset = -1;
+    deltasSinceSnapshot = 0;
+    BackendState state = new BackendState();
+    String firstChunkKey = String.format("%s-%06d", instanceId, 1);
+    List<byte[]> chunks = null;
+    long chunksOffset = -1;
+    boolean firstRecord = true;
+    while (consumer.position(topicPartition) < lastOffset) {
       ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(5000));
       for (ConsumerRecord<String, byte[]> record : records) {
-        if (record.key().startsWith(instanceId + "-")) {
-          map.put(record.key(), record.value());
+        String key = record.key();
+        if (firstRecord && startOffset >= 0) {
+          if (record.offset() != startOffset || !firstChunkKey.equals(key)) {
+            return null;
+          }
+        }
+        firstRecord = false;
+        if (key == null) {
+          continue;
+        }
+        if (key.startsWith(instanceId + "-")) {
+          if (key.equals(firstChunkKey)) {
+            chunks = new ArrayList<>();
+            chunksOffset = record.offset();
+          }
+          if (chunks != null && record.value() != null) {
+            chunks.add(record.value());
+            if (chunker.isComplete(chunks)) {
+              state = fromSnapshot(chunks);
+              snapshotOffset = chunksOffset;
+              deltasSinceSnapshot = 0;
+              chunks = null;
+            }
+          }
+        } else if (deltaLog.isDeltaKey(key)) {
+          deltaLog.apply(state, key, record.value());
+          deltasSinceSnapshot++;
         }
-      }
-      if (consumer.position(topicPartition) >= lastOffset) {
-        break;
       }
     }
-    consumer.commitSync();
-    if (map.isEmpty()) {
-      return new BackendState();
-    }
-    byte[] bytes = chunker.dechunk(new ArrayList<>(map.values()));
-    final String json = new String(bytes, StandardCharsets.UTF_8);
+    return state;
+  }
+
+  private BackendState fromSnapshot(List<byte[]> chunks) {
+    byte[] bytes = chunker.dechunk(chunks);
     try {
-      return (BackendState) JSON.toObject(json, BackendState.class);
-    } catch (JsonProcessingException e) {
+      return BackendStateCodec.decode(bytes);
+    } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
+
+  /** Remember the offset of the latest snapshot, so the next load starts from there. */
+  public void commitSnapshot(long offset) {
+    TopicPartition topicPartition = new TopicPartition(config.getKafkaBackendStateTopic(), 0);
+    consumer.commitSync(
+        Collections.singletonMap(topicPartition, new OffsetAndMetadata(offset, snapshotMarker())));
+    snapshotOffset = offset;
+    deltasSinceSnapshot = 0;
+  }
+
+  private String snapshotMarker() {
+    return SNAPSHOT_MARKER_PREFIX + instanceId;
+  }
+
+  /** Offset of the latest snapshot read or written, -1 if none is known. */
+  public long getSnapshotOffset() {
+    return snapshotOffset;
+  }
+
+  /** Number of delta records found or written after the latest snapshot. */
+  public long getDeltasSinceSnapshot() {
+    return deltasSinceSnapshot;
+  }
+
+  /** Count delta records written after the latest snapshot, without loading the state again. */
+  public void deltasWritten(long count) {
+    deltasSinceSnapshot += count;
+  }
 }
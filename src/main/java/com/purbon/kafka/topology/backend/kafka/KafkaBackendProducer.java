@@ -1,15 +1,18 @@
 package com.purbon.kafka.topology.backend.kafka;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.backend.BackendState;
-import com.purbon.kafka.topology.utils.JSON;
-import java.nio.charset.StandardCharsets;
+import com.purbon.kafka.topology.backend.BackendStateCodec;
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 
@@ -19,11 +22,13 @@ public class KafkaBackendProducer {
   private Configuration config;
   private KafkaProducer<String, byte[]> producer;
   private ByteArrayChunker chunker;
+  private BackendStateCodec codec;
 
   public KafkaBackendProducer(Configuration config, ByteArrayChunker chunker) {
     this.config = config;
     this.instanceId = config.getJulieInstanceId();
     this.chunker = chunker;
+    this.codec = BackendStateCodec.fromConfig(config, false);
   }
 
   public void configure() {
@@ -36,29 +41,60 @@ public class KafkaBackendProducer {
   }
 
   public void save(BackendState backendState) {
+    sendSnapshot(backendState);
+  }
+
+  /**
+   * Write the full state as a sequence of chunks.
+   *
+   * @return the offset of the first chunk
+   */
+  public long saveSnapshot(BackendState backendState) {
+    try {
+      return sendSnapshot(backendState).get().offset();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private Future<RecordMetadata> sendSnapshot(BackendState backendState) {
     List<byte[]> chunks = chunkify(backendState);
+    Future<RecordMetadata> firstChunk = null;
     int key = 1;
     for (byte[] chunk : chunks) {
       String keyString = String.format("%s-%06d", instanceId, key);
-      ProducerRecord<String, byte[]> record =
-          new ProducerRecord<>(config.getKafkaBackendStateTopic(), keyString, chunk);
-      producer.send(
-          record,
-          (metadata, exception) -> {
-            if (exception != null) {
-              throw new RuntimeException(exception);
-            }
-          });
+      Future<RecordMetadata> future = send(keyString, chunk);
+      if (firstChunk == null) {
+        firstChunk = future;
+      }
       ++key;
     }
     producer.flush();
+    return firstChunk;
+  }
+
+  /** Append the records of a state delta. */
+  public void saveDelta(Map<String, byte[]> records) {
+    records.forEach(this::send);
+    producer.flush();
+  }
+
+  private Future<RecordMetadata> send(String key, byte[] value) {
+    ProducerRecord<String, byte[]> record =
+        new ProducerRecord<>(config.getKafkaBackendStateTopic(), key, value);
+    return producer.send(
+        record,
+        (metadata, exception) -> {
+          if (exception != null) {
+            throw new RuntimeException(exception);
+          }
+        });
   }
 
   private List<byte[]> chunkify(BackendState backendState) {
     try {
-      String jsonString = JSON.asString(backendState);
-      return chunker.chunk(jsonString.getBytes(StandardCharsets.UTF_8));
-    } catch (JsonProcessingException e) {
+      return chunker.chunk(codec.encode(backendState));
+    } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
@@ -0,0 +1,147 @@
+package com.purbon.kafka.topology.backend.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.JSON;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Record format of the incremental state log. Every entity of the state is written as its own
+ * record, keyed by instance id, entity type and the entity itself, so the compacted state topic
+ * keeps a single record per entity. Removed entities are written as a removed marker, not as
+ * tombstones: the compaction drops tombstones after delete.retention.ms, while older snapshots
+ * still list the entity, so a replay would bring removed entities back.
+ */
+public final class StateDeltaLog {
+
+  enum EntityType {
+    TOPIC("topic", String.class),
+    BINDING("binding", TopologyAclBinding.class),
+    ACCOUNT("account", ServiceAccount.class),
+    CONNECTOR("connector", KafkaConnectArtefact.class),
+    KSQL_STREAM("ksql-stream", KsqlStreamArtefact.class),
+    KSQL_TABLE("ksql-table", KsqlTableArtefact.class);
+
+    private final String label;
+    private final Class<?> clazz;
+
+    EntityType(String label, Class<?> clazz) {
+      this.label = label;
+      this.clazz = clazz;
+    }
+
+    @SuppressWarnings("unchecked")
+    Set<Object> entitiesOf(BackendState state) {
+      switch (this) {
+        case TOPIC:
+          return (Set<Object>) (Set<?>) state.getTopics();
+        case BINDING:
+          return (Set<Object>) (Set<?>) state.getBindings();
+        case ACCOUNT:
+          return (Set<Object>) (Set<?>) state.getAccounts();
+        case CONNECTOR:
+          return (Set<Object>) (Set<?>) state.getConnectors();
+        case KSQL_STREAM:
+          return (Set<Object>) (Set<?>) state.getKSqlStreams();
+        default:
+          return (Set<Object>) (Set<?>) state.getKSqlTables();
+      }
+    }
+  }
+
+  static final byte[] REMOVED = "removed".getBytes(StandardCharsets.UTF_8);
+
+  private final String prefix;
+
+  public StateDeltaLog(String instanceId) {
+    this.prefix = instanceId + ".delta.";
+  }
+
+  public boolean isDeltaKey(String key) {
+    return key.startsWith(prefix);
+  }
+
+  /**
+   * Records turning the before state into the after state, in a stable order. Removed entities
+   * have the removed marker as value.
+   */
+  public Map<String, byte[]> diff(BackendState before, BackendState after) {
+    Map<String, byte[]> records = new LinkedHashMap<>();
+    for (EntityType type : EntityType.values()) {
+      Set<Object> previous = type.entitiesOf(before);
+      Set<Object> current = type.entitiesOf(after);
+      for (Object entity : previous) {
+        if (!current.contains(entity)) {
+          records.put(key(type, asJson(entity)), REMOVED);
+        }
+      }
+      for (Object entity : current) {
+        if (!previous.contains(entity)) {
+          String json = asJson(entity);
+          records.put(key(type, json), json.getBytes(StandardCharsets.UTF_8));
+        }
+      }
+    }
+    return records;
+  }
+
+  /** Apply a delta record read from the state topic to the state. */
+  public void apply(BackendState state, String key, byte[] value) {
+    String typeAndEntity = key.substring(prefix.length());
+    int separator = typeAndEntity.indexOf('.');
+    if (separator < 0) {
+      throw new IllegalArgumentException("Invalid state delta key " + key);
+    }
+    EntityType type = typeOf(typeAndEntity.substring(0, separator));
+    // tombstones are the removals written by earlier versions
+    boolean removed = value == null || Arrays.equals(value, REMOVED);
+    String json =
+        removed
+            ? typeAndEntity.substring(separator + 1)
+            : new String(value, StandardCharsets.UTF_8);
+    Object entity = fromJson(json, type.clazz);
+    if (removed) {
+      type.entitiesOf(state).remove(entity);
+    } else {
+      type.entitiesOf(state).add(entity);
+    }
+  }
+
+  private String key(EntityType type, String json) {
+    return prefix + type.label + "." + json;
+  }
+
+  private static EntityType typeOf(String label) {
+    for (EntityType type : EntityType.values()) {
+      if (type.label.equals(label)) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown state entity type " + label);
+  }
+
+  private static String asJson(Object entity) {
+    try {
+      return JSON.asString(entity);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static Object fromJson(String json, Class<?> clazz) {
+    try {
+      return JSON.toObject(json, clazz);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
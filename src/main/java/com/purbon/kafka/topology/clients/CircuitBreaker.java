@@ -0,0 +1,66 @@
+package com.purbon.kafka.topology.clients;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Circuit breaker of a host. After failureThreshold consecutive failures (server errors or
+ * connection problems) the circuit opens and requests to the host are rejected right away. Once
+ * openMs have passed a single trial request is let through: a success closes the circuit again, a
+ * failure keeps it open for another period. A threshold of zero or less disables the breaker.
+ */
+public class CircuitBreaker {
+
+  private static final Logger LOGGER = LogManager.getLogger(CircuitBreaker.class);
+
+  private final String host;
+  private final int failureThreshold;
+  private final long openNanos;
+
+  private int consecutiveFailures;
+  private long openUntilNanos;
+  private boolean trialInFlight;
+
+  public CircuitBreaker(String host, int failureThreshold, long openMs) {
+    this.host = host;
+    this.failureThreshold = failureThreshold;
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+  }
+
+  /** Whether a request to the host can be sent now. */
+  public synchronized boolean allowRequest() {
+    if (failureThreshold <= 0 || consecutiveFailures < failureThreshold) {
+      return true;
+    }
+    if (System.nanoTime() - openUntilNanos >= 0 && !trialInFlight) {
+      trialInFlight = true;
+      return true;
+    }
+    return false;
+  }
+
+  public synchronized void recordSuccess() {
+    consecutiveFailures = 0;
+    trialInFlight = false;
+  }
+
+  public synchronized void recordFailure() {
+    trialInFlight = false;
+    consecutiveFailures++;
+    if (failureThreshold > 0 && consecutiveFailures >= failureThreshold) {
+      openUntilNanos = System.nanoTime() + openNanos;
+      LOGGER.warn(
+          "{} consecutive failures reaching {}, rejecting requests for the next {} ms",
+          consecutiveFailures,
+          host,
+          TimeUnit.NANOSECONDS.toMillis(openNanos));
+    }
+  }
+
+  public synchronized boolean isOpen() {
+    return failureThreshold > 0
+        && consecutiveFailures >= failureThreshold
+        && System.nanoTime() - openUntilNanos < 0;
+  }
+}
@@ -0,0 +1,87 @@
+package com.purbon.kafka.topology.clients;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.net.ssl.SSLContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * One {@link HttpClient} per target host and client settings, shared by every {@link
+ * JulieHttpClient} talking to that host, so the connections opened by a client (and the HTTP/2
+ * streams multiplexed on them) are reused across requests and across API clients. Every client
+ * runs its asynchronous work on the same executor of virtual threads. A client is built again when
+ * the version of its TLS stores changes, so rotated key and trust stores are picked up.
+ */
+final class HttpClientPool {
+
+  private static final Logger LOGGER = LogManager.getLogger(HttpClientPool.class);
+
+  private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+  private static final Map<String, PooledClient> CLIENTS = new ConcurrentHashMap<>();
+
+  private record PooledClient(String tlsVersion, HttpClient client) {}
+
+  @FunctionalInterface
+  interface SslContextFactory {
+    SSLContext build() throws IOException;
+  }
+
+  private HttpClientPool() {}
+
+  /**
+   * The client for the server with the given settings, built on first use.
+   *
+   * @param tlsKey identity of the TLS configuration, clients with different stores are not shared
+   * @param tlsVersion version of the TLS stores, the client is replaced when it changes
+   */
+  static HttpClient get(
+      String server,
+      HttpClient.Version version,
+      Duration connectTimeout,
+      String tlsKey,
+      String tlsVersion,
+      SslContextFactory sslContextFactory)
+      throws IOException {
+    String key =
+        String.join("|", hostOf(server), version.name(), connectTimeout.toString(), tlsKey);
+    PooledClient pooled = CLIENTS.get(key);
+    if (pooled != null && pooled.tlsVersion().equals(tlsVersion)) {
+      return pooled.client();
+    }
+    synchronized (CLIENTS) {
+      pooled = CLIENTS.get(key);
+      if (pooled == null || !pooled.tlsVersion().equals(tlsVersion)) {
+        LOGGER.debug("Creating a http client for {} with the TLS stores {}", key, tlsVersion);
+        HttpClient client =
+            HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .executor(EXECUTOR)
+                .sslContext(sslContextFactory.build())
+                .build();
+        pooled = new PooledClient(tlsVersion, client);
+        CLIENTS.put(key, pooled);
+      }
+      return pooled.client();
+    }
+  }
+
+  private static String hostOf(String server) {
+    try {
+      URI uri = URI.create(server);
+      if (uri.getScheme() != null && uri.getAuthority() != null) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+      }
+    } catch (IllegalArgumentException e) {
+      LOGGER.debug("Not a valid server url {}", server);
+    }
+    return server;
+  }
+}
@@ -25,7 +25,7 @@ import java.security.cert.CertificateException;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -38,14 +38,15 @@ public class JulieHttpClient {
 
   private static final Logger LOGGER = LogManager.getLogger(JulieHttpClient.class);
 
-  private final long DEFAULT_TIMEOUT_MS = 60000;
+  private static final long DEFAULT_TIMEOUT_MS = 60000;
+  private static final long DEFAULT_CONNECT_TIMEOUT_MS = 10000;
 
-  private HttpClient httpClient;
+  private final Optional<Configuration> configOptional;
   protected final String server;
   private String token;
 
-  private int retryTimes;
-  private int backoffTimesMs;
+  private RetryPolicy retryPolicy;
+  private long requestTimeoutMs;
 
   public JulieHttpClient(String server) throws IOException {
     this(server, Optional.empty());
@@ -54,15 +55,17 @@ public class JulieHttpClient {
   public JulieHttpClient(String server, Optional<Configuration> configOptional) throws IOException {
     this.server = server;
     this.token = "";
-    this.httpClient = configureHttpOrHttpsClient(configOptional);
+    this.configOptional = configOptional;
+    // fail early on invalid TLS stores, requests look the client up again
+    configureHttpOrHttpsClient(configOptional);
     configOptional.ifPresentOrElse(
         e -> {
-          retryTimes = e.getHttpRetryTimes();
-          backoffTimesMs = e.getHttpBackoffTimeMs();
+          retryPolicy = RetryPolicy.fromConfig(e);
+          requestTimeoutMs = e.getHttpRequestTimeoutMs();
         },
         () -> {
-          retryTimes = 0;
-          backoffTimesMs = 0;
+          retryPolicy = RetryPolicy.none();
+          requestTimeoutMs = DEFAULT_TIMEOUT_MS;
         });
   }
 
@@ -78,12 +81,58 @@ public class JulieHttpClient {
     return builder;
   }
 
+  /**
+   * The http client used to reach the server. Clients are shared between every instance reaching
+   * the same host with the same settings, see {@link HttpClientPool}. It is looked up for every
+   * request, so long running processes pick up rotated TLS stores.
+   */
   protected HttpClient configureHttpOrHttpsClient(Optional<Configuration> configOptional)
       throws IOException {
     if (configOptional.isEmpty()) {
-      return HttpClient.newBuilder().build();
+      return HttpClientPool.get(
+          server,
+          HttpClient.Version.HTTP_2,
+          Duration.ofMillis(DEFAULT_CONNECT_TIMEOUT_MS),
+          "default",
+          "",
+          JulieHttpClient::defaultSslContext);
     }
     Configuration config = configOptional.get();
+    String tlsKey = "default";
+    String tlsVersion = "";
+    if (areKeyStoreConfigured(config)) {
+      String keyStore = config.getSslKeyStoreLocation().get();
+      String trustStore = config.getSslTrustStoreLocation().get();
+      tlsKey = keyStore + ":" + trustStore;
+      tlsVersion = lastModified(keyStore) + ":" + lastModified(trustStore);
+    }
+    return HttpClientPool.get(
+        server,
+        config.getHttpVersion(),
+        Duration.ofMillis(config.getHttpConnectTimeoutMs()),
+        tlsKey,
+        tlsVersion,
+        () -> buildSslContext(config));
+  }
+
+  private static long lastModified(String location) {
+    try {
+      return Files.getLastModifiedTime(Paths.get(location)).toMillis();
+    } catch (IOException e) {
+      // building the SSL context reports the missing store
+      return -1;
+    }
+  }
+
+  private static SSLContext defaultSslContext() throws IOException {
+    try {
+      return SSLContext.getDefault();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private SSLContext buildSslContext(Configuration config) throws IOException {
     SSLContext sslContext;
     try {
       sslContext = SSLContext.getInstance("TLS");
@@ -104,7 +153,7 @@ public class JulieHttpClient {
       LOGGER.error(e);
       throw new IOException(e);
     }
-    return HttpClient.newBuilder().sslContext(sslContext).build();
+    return sslContext;
   }
 
   protected boolean areKeyStoreConfigured(Configuration config) {
@@ -156,7 +205,7 @@ public class JulieHttpClient {
   }
 
   public Response doGet(String url) throws IOException {
-    HttpRequest request = getRequest(url, DEFAULT_TIMEOUT_MS);
+    HttpRequest request = getRequest(url, requestTimeoutMs);
     return doGet(request);
   }
 
@@ -166,7 +215,7 @@ public class JulieHttpClient {
 
   public String doPost(String url, String body) throws IOException {
     LOGGER.debug("doPost: " + url + " body: " + body);
-    HttpRequest request = postRequest(url, body, DEFAULT_TIMEOUT_MS);
+    HttpRequest request = postRequest(url, body, requestTimeoutMs);
     return doRequest(request);
   }
 
@@ -176,13 +225,13 @@ public class JulieHttpClient {
 
   protected void doPut(String url) throws IOException {
     LOGGER.debug("doPut: " + url);
-    HttpRequest request = putRequest(url, DEFAULT_TIMEOUT_MS);
+    HttpRequest request = putRequest(url, requestTimeoutMs);
     doRequest(request);
   }
 
   protected String doPut(String url, String body) throws IOException {
     LOGGER.debug("doPut: " + url + " body: " + body);
-    HttpRequest request = putRequest(url, ofString(body), DEFAULT_TIMEOUT_MS);
+    HttpRequest request = putRequest(url, ofString(body), requestTimeoutMs);
     return doRequest(request);
   }
 
@@ -200,10 +249,46 @@ public class JulieHttpClient {
 
   public void doDelete(String url, String body) throws IOException {
     LOGGER.debug("doDelete: " + url + " body: " + body);
-    HttpRequest request = deleteRequest(url, body, DEFAULT_TIMEOUT_MS);
+    HttpRequest request = deleteRequest(url, body, requestTimeoutMs);
     doRequest(request);
   }
 
+  /*
+   * The asynchronous requests below return without waiting for the response, so callers can keep
+   * several requests in flight. The response is returned whatever its status code and without any
+   * retry, callers are in charge of both. They still go through the circuit breaker of the server.
+   */
+
+  public CompletableFuture<Response> doGetAsync(String url) {
+    LOGGER.debug("doGetAsync: " + url);
+    return sendOnce(getRequest(url, requestTimeoutMs));
+  }
+
+  public CompletableFuture<Response> doPostAsync(String url, String body) {
+    LOGGER.debug("doPostAsync: " + url + " body: " + body);
+    return sendOnce(postRequest(url, body, requestTimeoutMs));
+  }
+
+  public CompletableFuture<Response> doPutAsync(String url, String body) {
+    LOGGER.debug("doPutAsync: " + url + " body: " + body);
+    return sendOnce(putRequest(url, ofString(body), requestTimeoutMs));
+  }
+
+  public CompletableFuture<Response> doDeleteAsync(String url) {
+    LOGGER.debug("doDeleteAsync: " + url);
+    return sendOnce(deleteRequest(url, "", requestTimeoutMs));
+  }
+
+  private CompletableFuture<Response> sendOnce(HttpRequest request) {
+    CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+    send(request, HttpResponse.BodyHandlers.ofString(), 1, 1, result);
+    return result.thenApply(Response::new);
+  }
+
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
   private HttpRequest deleteRequest(String url, String body, long timeoutMs) {
     HttpRequest.Builder builder = setupARequest(url, timeoutMs);
     BodyPublisher bodyPublisher = !body.isEmpty() ? ofString(body) : noBody();
@@ -251,53 +336,73 @@ public class JulieHttpClient {
 
   private CompletableFuture<HttpResponse<String>> sendAsync(
       HttpRequest request, HttpResponse.BodyHandler<String> handler) {
-    return httpClient
-        .sendAsync(request, handler)
-        .handleAsync((response, throwable) -> tryResend(request, handler, 1, response, throwable))
-        .thenCompose(Function.identity());
+    CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+    send(request, handler, 1, retryPolicy.getRetryTimes(), result);
+    return result;
   }
 
-  private CompletableFuture<HttpResponse<String>> tryResend(
+  /**
+   * Send the request through the circuit breaker of the server. Failed attempts are sent again
+   * after the delay given by the {@link RetryPolicy}, scheduled without blocking any thread, until
+   * maxAttempts have been made.
+   */
+  private void send(
       HttpRequest request,
       HttpResponse.BodyHandler<String> handler,
-      int count,
-      HttpResponse<String> response,
-      Throwable throwable) {
-    if (shouldRetry(response, throwable, count)) {
-      System.out.println("shouldRetry: count=" + count);
-      return httpClient
-          .sendAsync(request, handler)
-          .handleAsync((r, t) -> tryResend(request, handler, count + 1, r, t))
-          .thenCompose(Function.identity());
-    } else if (throwable != null) {
-      return CompletableFuture.failedFuture(throwable);
-    } else {
-      return CompletableFuture.completedFuture(response);
-    }
-  }
-
-  private boolean shouldRetry(HttpResponse<String> response, Throwable throwable, int count) {
-    if (response != null && !isRetrievableStatusCode(response) || count >= retryTimes) {
-      return false;
+      int attempt,
+      int maxAttempts,
+      CompletableFuture<HttpResponse<String>> result) {
+    CircuitBreaker circuitBreaker = retryPolicy.circuitBreaker(server);
+    RetryPolicy.Counters counters = retryPolicy.counters(server);
+    if (!circuitBreaker.allowRequest()) {
+      counters.recordRejected();
+      result.completeExceptionally(
+          new IOException(
+              "Too many failures reaching " + server + ", request not sent: " + request.uri()));
+      return;
     }
-    var backoffTime = backoff(count);
-    LOGGER.debug("Sleeping before retry on " + backoffTime + " ms");
-    return true;
-  }
-
-  private <T> boolean isRetrievableStatusCode(HttpResponse<T> response) {
-    return response.statusCode() == 429 || response.statusCode() == 503;
-  }
-
-  private int backoff(int count) {
-    int backoff = 0;
+    HttpClient httpClient;
     try {
-      backoff = this.backoffTimesMs + (10 * count);
-      Thread.sleep(backoff);
-    } catch (Exception ex) {
-      LOGGER.error(ex);
+      httpClient = configureHttpOrHttpsClient(configOptional);
+    } catch (IOException e) {
+      result.completeExceptionally(e);
+      return;
     }
-    return backoff;
+    counters.recordRequest();
+    httpClient
+        .sendAsync(request, handler)
+        .whenComplete(
+            (response, throwable) -> {
+              if (throwable != null || RetryPolicy.isServerError(response.statusCode())) {
+                circuitBreaker.recordFailure();
+              } else {
+                circuitBreaker.recordSuccess();
+              }
+              boolean retriable =
+                  throwable != null || RetryPolicy.isRetriable(response.statusCode());
+              if (retriable && attempt < maxAttempts) {
+                Optional<String> retryAfter =
+                    Optional.ofNullable(response)
+                        .flatMap(r -> r.headers().firstValue("Retry-After"));
+                long delayMs = retryPolicy.retryDelayMs(attempt, retryAfter);
+                counters.recordRetry(delayMs);
+                LOGGER.debug(
+                    String.format(
+                        "method: %s request.uri: %s failed with %s, retry %d in %d ms",
+                        request.method(),
+                        request.uri(),
+                        throwable != null ? throwable : "status " + response.statusCode(),
+                        attempt,
+                        delayMs));
+                CompletableFuture.runAsync(
+                    () -> send(request, handler, attempt + 1, maxAttempts, result),
+                    CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS));
+              } else if (throwable != null) {
+                result.completeExceptionally(throwable);
+              } else {
+                result.complete(response);
+              }
+            });
   }
 
   public String baseUrl() {
@@ -0,0 +1,155 @@
+package com.purbon.kafka.topology.clients;
+
+import com.purbon.kafka.topology.model.misc.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Send one http request per item keeping up to maxInFlight requests open at the same time. New
+ * requests are paced by a {@link TokenBucket}. Responses the {@link RetryPolicy} deems retriable
+ * are sent again after the delay it asks for, pausing the whole pipeline for that time. The
+ * outcome is reported per item.
+ */
+public class RequestPipeline {
+
+  private static final Logger LOGGER = LogManager.getLogger(RequestPipeline.class);
+
+  private final int maxInFlight;
+  private final TokenBucket rateLimiter;
+  private final RetryPolicy retryPolicy;
+  private final RetryPolicy.Counters counters;
+
+  public RequestPipeline(
+      int maxInFlight, TokenBucket rateLimiter, RetryPolicy retryPolicy, String server) {
+    this.maxInFlight = Math.max(maxInFlight, 1);
+    this.rateLimiter = rateLimiter;
+    this.retryPolicy = retryPolicy;
+    this.counters = retryPolicy.counters(server);
+  }
+
+  public <T> Results<T> run(
+      Collection<T> items, Function<T, CompletableFuture<Response>> request)
+      throws IOException {
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    Map<T, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+    try {
+      for (T item : items) {
+        inFlight.acquire();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        result.whenComplete((r, t) -> inFlight.release());
+        futures.put(item, result);
+        send(item, request, 1, result, scheduler);
+      }
+      CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+          .handle((r, t) -> null)
+          .join();
+    } catch (InterruptedException e) {
+      LOGGER.error(e);
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      scheduler.shutdownNow();
+    }
+
+    Results<T> results = new Results<>();
+    futures.forEach(
+        (item, future) ->
+            future.handle(
+                (r, t) -> {
+                  results.add(item, t);
+                  return null;
+                }));
+    return results;
+  }
+
+  private <T> void send(
+      T item,
+      Function<T, CompletableFuture<Response>> request,
+      int attempt,
+      CompletableFuture<Void> result,
+      ScheduledExecutorService scheduler) {
+    CompletableFuture<Response> response;
+    try {
+      rateLimiter.acquire();
+      response = request.apply(item);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.completeExceptionally(e);
+      return;
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+      return;
+    }
+    response.whenComplete(
+        (r, t) -> {
+          if (t != null) {
+            result.completeExceptionally(
+                t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+          } else if (r.getStatus() >= 200 && r.getStatus() <= 299) {
+            result.complete(null);
+          } else if (retryPolicy.shouldRetry(r.getStatus(), attempt)) {
+            long delayMs = retryPolicy.retryDelayMs(attempt, r.getHeader("Retry-After"));
+            counters.recordRetry(delayMs);
+            LOGGER.debug(
+                String.format(
+                    "Request for %s got status %d, retry %d in %d ms",
+                    item, r.getStatus(), attempt, delayMs));
+            rateLimiter.pause(delayMs);
+            scheduler.schedule(
+                () -> send(item, request, attempt + 1, result, scheduler),
+                delayMs,
+                TimeUnit.MILLISECONDS);
+          } else {
+            result.completeExceptionally(
+                new IOException(
+                    "Something happened with the connection, response status code: "
+                        + r.getStatus()
+                        + " body: "
+                        + Optional.ofNullable(r.getResponseAsString()).orElse("")));
+          }
+        });
+  }
+
+  /** Outcome of a pipeline run, in the order the items were given. */
+  public static class Results<T> {
+
+    private final List<T> succeeded = new ArrayList<>();
+    private final Map<T, Throwable> failed = new LinkedHashMap<>();
+
+    private void add(T item, Throwable error) {
+      if (error == null) {
+        succeeded.add(item);
+      } else {
+        failed.put(item, error);
+      }
+    }
+
+    public List<T> getSucceeded() {
+      return Collections.unmodifiableList(succeeded);
+    }
+
+    public Map<T, Throwable> getFailed() {
+      return Collections.unmodifiableMap(failed);
+    }
+
+    public boolean hasFailures() {
+      return !failed.isEmpty();
+    }
+  }
+}
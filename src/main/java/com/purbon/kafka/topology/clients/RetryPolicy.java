@@ -0,0 +1,219 @@
+package com.purbon.kafka.topology.clients;
+
+import com.purbon.kafka.topology.Configuration;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Retry policy shared by the http clients.
+ *
+ * <p>Responses with status 429 or 5xx are retried, any other status is returned right away. The
+ * delay before a retry is the one asked by the Retry-After header when present, or an exponential
+ * backoff with jitter otherwise: the n-th retry waits between half and all of min(max, base *
+ * 2^(n-1)), so clients failing at the same time do not retry at the same time. Every host has its
+ * own {@link CircuitBreaker} per breaker settings, and its own counters of requests, retries and
+ * time spent waiting before retries, reset every time they are logged.
+ */
+public class RetryPolicy {
+
+  private static final Logger LOGGER = LogManager.getLogger(RetryPolicy.class);
+
+  private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+  private static final Map<String, Counters> COUNTERS = new ConcurrentHashMap<>();
+
+  private final int retryTimes;
+  private final long backoffMs;
+  private final long maxBackoffMs;
+  private final int failureThreshold;
+  private final long openMs;
+
+  public RetryPolicy(
+      int retryTimes, long backoffMs, long maxBackoffMs, int failureThreshold, long openMs) {
+    this.retryTimes = retryTimes;
+    this.backoffMs = backoffMs;
+    this.maxBackoffMs = Math.max(maxBackoffMs, backoffMs);
+    this.failureThreshold = failureThreshold;
+    this.openMs = openMs;
+  }
+
+  /** A policy sending every request once. */
+  public static RetryPolicy none() {
+    return new RetryPolicy(0, 0, 0, 0, 0);
+  }
+
+  public static RetryPolicy fromConfig(Configuration config) {
+    return new RetryPolicy(
+        config.getHttpRetryTimes(),
+        config.getHttpBackoffTimeMs(),
+        config.getHttpMaxBackoffTimeMs(),
+        config.getHttpCircuitBreakerFailureThreshold(),
+        config.getHttpCircuitBreakerOpenTimeMs());
+  }
+
+  public int getRetryTimes() {
+    return retryTimes;
+  }
+
+  public long getBackoffMs() {
+    return backoffMs;
+  }
+
+  /** Whether a request that got the response status and was sent attempt times is retried. */
+  public boolean shouldRetry(int statusCode, int attempt) {
+    return isRetriable(statusCode) && attempt < retryTimes;
+  }
+
+  public static boolean isRetriable(int statusCode) {
+    return statusCode == 429 || (statusCode >= 500 && statusCode <= 599);
+  }
+
+  /** Whether the status is a failure of the server, counted by the circuit breaker. */
+  public static boolean isServerError(int statusCode) {
+    return statusCode >= 500 && statusCode <= 599;
+  }
+
+  /** Delay before sending a request again, after attempt tries. */
+  public long retryDelayMs(int attempt, Optional<String> retryAfter) {
+    return retryAfter.flatMap(RetryPolicy::parseRetryAfter).orElseGet(() -> backoffMs(attempt));
+  }
+
+  long backoffMs(int attempt) {
+    long ceiling = maxBackoffMs;
+    if (attempt - 1 < Long.numberOfLeadingZeros(Math.max(backoffMs, 1)) - 1) {
+      ceiling = Math.min(maxBackoffMs, backoffMs << (attempt - 1));
+    }
+    long half = ceiling / 2;
+    return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+  }
+
+  public CircuitBreaker circuitBreaker(String server) {
+    String host = hostOf(server);
+    // clients of the same host with other settings, or without a breaker, have their own circuit
+    return BREAKERS.computeIfAbsent(
+        host + "|" + failureThreshold + "|" + openMs,
+        key -> new CircuitBreaker(host, failureThreshold, openMs));
+  }
+
+  public Counters counters(String server) {
+    return COUNTERS.computeIfAbsent(hostOf(server), host -> new Counters());
+  }
+
+  /** Counters of every host reached so far, by host. */
+  public static Map<String, Counters> allCounters() {
+    return new TreeMap<>(COUNTERS);
+  }
+
+  /** Log the counters of every host, and reset them. */
+  public static void logCounters() {
+    allCounters()
+        .forEach(
+            (host, current) -> {
+              Counters counters = current.reset();
+              if (counters.getRequests() == 0 && counters.getRejected() == 0) {
+                return;
+              }
+              if (counters.getRetries() > 0 || counters.getRejected() > 0) {
+                LOGGER.info("Http requests to {}: {}", host, counters);
+              } else {
+                LOGGER.debug("Http requests to {}: {}", host, counters);
+              }
+            });
+  }
+
+  /** Parse a Retry-After header, given either in seconds or as an http date. */
+  public static Optional<Long> parseRetryAfter(String value) {
+    try {
+      return Optional.of(TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim())));
+    } catch (NumberFormatException e) {
+      // not a number of seconds, try an http date
+    }
+    try {
+      ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+      return Optional.of(Math.max(Duration.between(ZonedDateTime.now(), date).toMillis(), 0));
+    } catch (DateTimeParseException e) {
+      LOGGER.debug("Ignoring invalid Retry-After header: " + value);
+      return Optional.empty();
+    }
+  }
+
+  private static String hostOf(String server) {
+    try {
+      URI uri = URI.create(server);
+      if (uri.getAuthority() != null) {
+        return uri.getAuthority();
+      }
+    } catch (IllegalArgumentException e) {
+      LOGGER.debug("Not a valid server url {}", server);
+    }
+    return server;
+  }
+
+  /** Requests sent to a host, retries and total time spent waiting before retries. */
+  public static class Counters {
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong retryDelayMs = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    void recordRequest() {
+      requests.incrementAndGet();
+    }
+
+    void recordRetry(long delayMs) {
+      retries.incrementAndGet();
+      retryDelayMs.addAndGet(delayMs);
+    }
+
+    void recordRejected() {
+      rejected.incrementAndGet();
+    }
+
+    /** Set the counters back to zero, and return their values until now. */
+    Counters reset() {
+      Counters values = new Counters();
+      values.requests.set(requests.getAndSet(0));
+      values.retries.set(retries.getAndSet(0));
+      values.retryDelayMs.set(retryDelayMs.getAndSet(0));
+      values.rejected.set(rejected.getAndSet(0));
+      return values;
+    }
+
+    public long getRequests() {
+      return requests.get();
+    }
+
+    public long getRetries() {
+      return retries.get();
+    }
+
+    public long getRetryDelayMs() {
+      return retryDelayMs.get();
+    }
+
+    /** Requests rejected because the circuit of the host was open. */
+    public long getRejected() {
+      return rejected.get();
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%d requests, %d retries, %d ms waiting before retries, %d rejected by the circuit"
+              + " breaker",
+          getRequests(), getRetries(), getRetryDelayMs(), getRejected());
+    }
+  }
+}
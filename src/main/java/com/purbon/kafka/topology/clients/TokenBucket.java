@@ -0,0 +1,45 @@
+package com.purbon.kafka.topology.clients;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter. Tokens are refilled at a fixed rate up to the burst size, every call
+ * to {@link #acquire()} takes one token and waits until it is available. A rate of zero or less
+ * disables the limit, but callers still wait for a pause requested with {@link #pause(long)}.
+ */
+public class TokenBucket {
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private long nextFreeNanos;
+
+  public TokenBucket(double permitsPerSecond, int burst) {
+    this.intervalNanos =
+        permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    this.burstNanos = intervalNanos * Math.max(burst - 1, 0);
+    this.nextFreeNanos = System.nanoTime();
+  }
+
+  public static TokenBucket unlimited() {
+    return new TokenBucket(0, 1);
+  }
+
+  public void acquire() throws InterruptedException {
+    long waitNanos;
+    synchronized (this) {
+      long now = System.nanoTime();
+      long slot = Math.max(nextFreeNanos, now - burstNanos);
+      nextFreeNanos = slot + intervalNanos;
+      waitNanos = slot - now;
+    }
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /** Hold back every token for at least the given time, e.g. when the server asks to slow down. */
+  public synchronized void pause(long millis) {
+    long pausedUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    nextFreeNanos = Math.max(nextFreeNanos, pausedUntil);
+  }
+}
@@ -15,6 +15,7 @@ import com.purbon.kafka.topology.model.users.Other;
 import com.purbon.kafka.topology.model.users.Producer;
 import com.purbon.kafka.topology.model.users.Schemas;
 import com.purbon.kafka.topology.utils.JinjaUtils;
+import com.purbon.kafka.topology.utils.Memo;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -36,6 +37,7 @@ public class ProjectImpl implements Project, Cloneable {
 
   @JsonIgnore private List<String> order;
   @JsonIgnore private Map<String, Object> prefixContext;
+  @JsonIgnore private Memo<String> patternBasedPrefix = new Memo<>();
 
   public ProjectImpl() {
     this("default");
@@ -215,7 +217,11 @@ public class ProjectImpl implements Project, Cloneable {
   }
 
   private String patternBasedProjectPrefix() {
-    return JinjaUtils.serialise(config.getProjectPrefixFormat(), prefixContext);
+    String format = config.getProjectPrefixFormat();
+    // rendered again only when the format or the context changed
+    return patternBasedPrefix.get(
+        Arrays.asList(format, prefixContext),
+        () -> JinjaUtils.serialise(format, prefixContext));
   }
 
   private String namePrefix(String topologyPrefix) {
@@ -9,11 +9,14 @@ import com.purbon.kafka.topology.model.schema.TopicSchemas;
 import com.purbon.kafka.topology.model.users.Consumer;
 import com.purbon.kafka.topology.model.users.Producer;
 import com.purbon.kafka.topology.utils.JinjaUtils;
+import com.purbon.kafka.topology.utils.Memo;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -50,6 +53,11 @@ public class Topic implements Cloneable {
   @JsonIgnore private String projectPrefix;
   @JsonIgnore private String topicNamePattern;
 
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private Memo<String> patternBasedName = new Memo<>();
+
   @JsonInclude(Include.NON_EMPTY)
   private Optional<SubjectNameStrategy> subjectNameStrategy;
 
@@ -145,14 +153,24 @@ public class Topic implements Cloneable {
   }
 
   private String patternBasedTopicNameStructureString() {
-    context.put("topic", name);
+    // the name is rendered again only when the pattern, the name or the context changed
+    return patternBasedName.get(
+        Arrays.asList(topicNamePattern, name, dlqPrefix, dataType, context),
+        this::renderTopicName);
+  }
+
+  private String renderTopicName() {
+    // render with a copy, the context can be shared and topics named from several threads
+    Map<String, Object> topicContext = new HashMap<>(context);
+    topicContext.put("topic", name);
     if (dlqPrefix.isBlank()) {
-      context.remove("dlq");
+      topicContext.remove("dlq");
     } else {
-      context.put("dlq", dlqPrefix);
+      topicContext.put("dlq", dlqPrefix);
     }
-    dataType.ifPresentOrElse(s -> context.put("dataType", s), () -> context.remove("dataType"));
-    return JinjaUtils.serialise(topicNamePattern, context);
+    dataType.ifPresentOrElse(
+        s -> topicContext.put("dataType", s), () -> topicContext.remove("dataType"));
+    return JinjaUtils.serialise(topicNamePattern, topicContext);
   }
 
   private String defaultTopicStructureString(String projectPrefix) {
@@ -223,7 +241,10 @@ public class Topic implements Cloneable {
   @Override
   public Topic clone() {
     try {
-      return (Topic) super.clone();
+      Topic topic = (Topic) super.clone();
+      // clones are often renamed, as dlq topics, keep their names apart
+      topic.patternBasedName = new Memo<>();
+      return topic;
     } catch (CloneNotSupportedException e) {
       return new Topic(
           getName(),
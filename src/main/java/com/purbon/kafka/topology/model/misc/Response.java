@@ -6,6 +6,7 @@ import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -13,11 +14,13 @@ public class Response {
 
   private static final Logger LOGGER = LogManager.getLogger(Response.class);
 
+  private final HttpHeaders headers;
   private final String response;
   private Map<String, Object> map;
   private final int statusCode;
 
   public Response(HttpHeaders headers, int statusCode, Map<String, Object> map, String response) {
+    this.headers = headers;
     this.statusCode = statusCode;
     this.map = map;
     this.response = response;
@@ -35,6 +38,10 @@ public class Response {
     return statusCode;
   }
 
+  public Optional<String> getHeader(String name) {
+    return headers != null ? headers.firstValue(name) : Optional.empty();
+  }
+
   public Object getField(String field) {
     if (map.isEmpty()) {
       try {
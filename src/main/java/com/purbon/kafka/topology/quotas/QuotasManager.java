@@ -1,13 +1,16 @@
 package com.purbon.kafka.topology.quotas;
 
+import com.purbon.kafka.topology.ClusterStateSnapshot;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.ExecutionPlan;
 import com.purbon.kafka.topology.ExecutionPlanUpdater;
+import com.purbon.kafka.topology.PlanScope;
 import com.purbon.kafka.topology.actions.quotas.CreateQuotasAction;
 import com.purbon.kafka.topology.actions.quotas.DeleteQuotasAction;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.users.Quota;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
@@ -16,20 +19,50 @@ import org.apache.kafka.common.quota.ClientQuotaEntity;
 
 public class QuotasManager implements ExecutionPlanUpdater {
 
+  private static final String CLIENT_QUOTAS = "quotas";
+
   private final TopologyBuilderAdminClient adminClient;
   private final Configuration config;
+  private ClusterStateSnapshot clusterState;
+  private PlanScope scope = PlanScope.all();
 
   public QuotasManager(TopologyBuilderAdminClient adminClient, Configuration config) {
     this.adminClient = adminClient;
     this.config = config;
   }
 
+  @Override
+  public void useClusterState(ClusterStateSnapshot clusterState) {
+    this.clusterState = clusterState;
+    if (clusterState != null) {
+      clusterState.prefetch(CLIENT_QUOTAS, this::describeClientQuotas);
+    }
+  }
+
+  @Override
+  public void useScope(PlanScope scope) {
+    this.scope = scope;
+  }
+
+  private Map<ClientQuotaEntity, Map<String, Double>> currentQuotas() throws IOException {
+    ClusterStateSnapshot snapshot =
+        clusterState != null ? clusterState : new ClusterStateSnapshot();
+    return snapshot.get(CLIENT_QUOTAS, this::describeClientQuotas);
+  }
+
+  private Map<ClientQuotaEntity, Map<String, Double>> describeClientQuotas() throws IOException {
+    try {
+      return adminClient.describeClientQuotas();
+    } catch (ExecutionException | InterruptedException e) {
+      throw new IOException(e);
+    }
+  }
+
   @Override
   public void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) {
     // Get current quotas
     try {
-      Map<ClientQuotaEntity, Map<String, Double>> currentQuotas =
-          adminClient.describeClientQuotas();
+      Map<ClientQuotaEntity, Map<String, Double>> currentQuotas = currentQuotas();
       Map<String, Map<String, Double>> currentUsersWithQuotas =
           currentQuotas.entrySet().stream()
               .collect(
@@ -58,7 +91,7 @@ public class QuotasManager implements ExecutionPlanUpdater {
                         }));
       }
       // Check for deletion, no prefixes here, all quotas should be put in one unique file
-      if (config.isAllowDeleteQuotas()) {
+      if (config.isAllowDeleteQuotas() && !scope.isPartial()) {
         usersWithQuotasInTopology.forEach(currentUsersWithQuotas::remove);
         if (!currentUsersWithQuotas.isEmpty()) {
           plan.add(
@@ -66,8 +99,8 @@ public class QuotasManager implements ExecutionPlanUpdater {
                   adminClient, new ArrayList<>(currentUsersWithQuotas.keySet())));
         }
       }
-    } catch (ExecutionException | InterruptedException e) {
-      throw new RuntimeException(e);
+    } catch (IOException e) {
+      throw new RuntimeException(e.getCause());
     }
   }
 
@@ -106,13 +139,12 @@ public class QuotasManager implements ExecutionPlanUpdater {
   public void printCurrentState(PrintStream out) {
     out.println("List of Quotas:");
     try {
-      Map<ClientQuotaEntity, Map<String, Double>> clientQuotaEntityMapMap =
-          adminClient.describeClientQuotas();
+      Map<ClientQuotaEntity, Map<String, Double>> clientQuotaEntityMapMap = currentQuotas();
       clientQuotaEntityMapMap
           .entrySet()
           .forEach(clientQuotaEntityMapEntry -> out.println(clientQuotaEntityMapEntry.toString()));
-    } catch (ExecutionException | InterruptedException e) {
-      throw new RuntimeException(e);
+    } catch (IOException e) {
+      throw new RuntimeException(e.getCause());
     }
   }
 }
@@ -0,0 +1,96 @@
+package com.purbon.kafka.topology.roles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Difference between the bindings wanted by the topologies and the bindings currently in place,
+ * computed with a single sort-merge pass over two sorted arrays. Bindings present on both sides
+ * are only counted, so no other intermediate collection is kept. The bindings to create and to
+ * delete come out sorted, which keeps the plan stable between runs.
+ */
+public final class AclBindingsDiff {
+
+  private final List<TopologyAclBinding> toCreate;
+  private final List<TopologyAclBinding> toDelete;
+  private final int unchanged;
+
+  private AclBindingsDiff(
+      List<TopologyAclBinding> toCreate, List<TopologyAclBinding> toDelete, int unchanged) {
+    this.toCreate = toCreate;
+    this.toDelete = toDelete;
+    this.unchanged = unchanged;
+  }
+
+  /**
+   * @param desired bindings wanted by the topologies, duplicates and nulls are ignored
+   * @param current bindings currently in place
+   * @param isCurrent which of the current bindings are taken into account
+   * @param canCreate which of the missing bindings should be created
+   */
+  public static AclBindingsDiff compute(
+      Stream<TopologyAclBinding> desired,
+      Collection<TopologyAclBinding> current,
+      Predicate<TopologyAclBinding> isCurrent,
+      Predicate<TopologyAclBinding> canCreate) {
+    TopologyAclBinding[] wanted =
+        desired.filter(Objects::nonNull).toArray(TopologyAclBinding[]::new);
+    TopologyAclBinding[] existing =
+        current.stream().filter(isCurrent).toArray(TopologyAclBinding[]::new);
+    Arrays.sort(wanted);
+    Arrays.sort(existing);
+
+    List<TopologyAclBinding> toCreate = new ArrayList<>();
+    List<TopologyAclBinding> toDelete = new ArrayList<>();
+    int unchanged = 0;
+    int i = 0;
+    int j = 0;
+    while (i < wanted.length || j < existing.length) {
+      int cmp;
+      if (i == wanted.length) {
+        cmp = 1;
+      } else if (j == existing.length) {
+        cmp = -1;
+      } else {
+        cmp = wanted[i].compareTo(existing[j]);
+      }
+      TopologyAclBinding binding = cmp > 0 ? existing[j] : wanted[i];
+      if (cmp < 0) {
+        if (canCreate.test(binding)) {
+          toCreate.add(binding);
+        }
+      } else if (cmp > 0) {
+        toDelete.add(binding);
+      } else {
+        unchanged++;
+      }
+      // skip the duplicates on both sides
+      while (i < wanted.length && cmp <= 0 && wanted[i].compareTo(binding) == 0) {
+        i++;
+      }
+      while (j < existing.length && cmp >= 0 && existing[j].compareTo(binding) == 0) {
+        j++;
+      }
+    }
+    return new AclBindingsDiff(
+        Collections.unmodifiableList(toCreate), Collections.unmodifiableList(toDelete), unchanged);
+  }
+
+  public List<TopologyAclBinding> getToCreate() {
+    return toCreate;
+  }
+
+  public List<TopologyAclBinding> getToDelete() {
+    return toDelete;
+  }
+
+  public int getUnchanged() {
+    return unchanged;
+  }
+}
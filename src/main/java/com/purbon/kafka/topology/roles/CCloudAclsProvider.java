@@ -4,6 +4,8 @@ import com.purbon.kafka.topology.AccessControlProvider;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.ccloud.CCloudApi;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountsCache;
+import com.purbon.kafka.topology.clients.RequestPipeline;
 import com.purbon.kafka.topology.utils.CCloudUtils;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -21,32 +23,69 @@ public class CCloudAclsProvider extends SimpleAclsProvider implements AccessCont
 
   private final CCloudApi cli;
   private final String clusterId;
+  private final RequestPipeline pipeline;
+  private final ServiceAccountsCache serviceAccounts;
   private CCloudUtils cCloudUtils;
 
   public CCloudAclsProvider(
       final TopologyBuilderAdminClient adminClient, final Configuration config) throws IOException {
-    super(adminClient);
+    this(adminClient, config, ServiceAccountsCache.build(config));
+  }
+
+  public CCloudAclsProvider(
+      final TopologyBuilderAdminClient adminClient,
+      final Configuration config,
+      final ServiceAccountsCache serviceAccounts)
+      throws IOException {
+    super(adminClient, config);
     this.cli = new CCloudApi(config.getConfluentCloudClusterUrl(), config);
     this.clusterId = config.getConfluentCloudClusterId();
+    this.pipeline = cli.aclsRequestPipeline(config);
+    this.serviceAccounts = serviceAccounts;
     this.cCloudUtils = new CCloudUtils(config);
   }
 
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
-    var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
-    for (TopologyAclBinding binding : bindings) {
-      cli.createAcl(
-          clusterId, cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
-    }
+    var translated = translate(bindings);
+    var results = pipeline.run(translated, binding -> cli.createAclAsync(clusterId, binding));
+    reportFailures("create", translated.size(), results);
   }
 
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
-    var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
+    var translated = translate(bindings);
+    var results = pipeline.run(translated, binding -> cli.deleteAclsAsync(clusterId, binding));
+    reportFailures("delete", translated.size(), results);
+  }
+
+  private List<TopologyAclBinding> translate(Set<TopologyAclBinding> bindings)
+      throws IOException {
+    var serviceAccountIdByNameMap = serviceAccounts.lookupTable();
+    List<TopologyAclBinding> translated = new ArrayList<>();
     for (TopologyAclBinding binding : bindings) {
-      cli.deleteAcls(
-          clusterId, cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
+      translated.add(cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
+    }
+    return translated;
+  }
+
+  private void reportFailures(
+      String operation, int total, RequestPipeline.Results<TopologyAclBinding> results)
+      throws IOException {
+    if (!results.hasFailures()) {
+      return;
     }
+    results
+        .getFailed()
+        .forEach(
+            (binding, error) ->
+                LOGGER.error(String.format("Failed to %s acl %s", operation, binding), error));
+    var first = results.getFailed().entrySet().iterator().next();
+    throw new IOException(
+        String.format(
+            "Failed to %s %d of %d acls, first failed binding: %s",
+            operation, results.getFailed().size(), total, first.getKey()),
+        first.getValue());
   }
 
   @Override
@@ -5,8 +5,11 @@ import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.adminclient.AclBuilder;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.ccloud.CCloudApi;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountsCache;
 import com.purbon.kafka.topology.utils.CCloudUtils;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.kafka.common.acl.AclOperation;
@@ -20,18 +23,28 @@ public class HybridCCloudAclsProvider extends SimpleAclsProvider implements Acce
   private static final Logger LOGGER = LogManager.getLogger(HybridCCloudAclsProvider.class);
 
   private final CCloudApi cli;
+  private final ServiceAccountsCache serviceAccounts;
   private CCloudUtils cCloudUtils;
 
   public HybridCCloudAclsProvider(
       final TopologyBuilderAdminClient adminClient, final Configuration config) throws IOException {
-    super(adminClient);
+    this(adminClient, config, ServiceAccountsCache.build(config));
+  }
+
+  public HybridCCloudAclsProvider(
+      final TopologyBuilderAdminClient adminClient,
+      final Configuration config,
+      final ServiceAccountsCache serviceAccounts)
+      throws IOException {
+    super(adminClient, config);
     this.cli = new CCloudApi(config.getConfluentCloudClusterUrl(), config);
+    this.serviceAccounts = serviceAccounts;
     this.cCloudUtils = new CCloudUtils(config);
   }
 
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
-    var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
+    var serviceAccountIdByNameMap = serviceAccounts.lookupTable();
     var mayBeTranslated =
         bindings.stream()
             .map(
@@ -66,9 +79,11 @@ public class HybridCCloudAclsProvider extends SimpleAclsProvider implements Acce
 
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
-    var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
+    var serviceAccountIdByNameMap = serviceAccounts.lookupTable();
+    List<TopologyAclBinding> translated = new ArrayList<>();
     for (TopologyAclBinding binding : bindings) {
-      adminClient.clearAcls(cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
+      translated.add(cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
     }
+    clearBindingsInBatches(translated);
   }
 }
@@ -1,7 +1,7 @@
 package com.purbon.kafka.topology.roles;
 
 import com.purbon.kafka.topology.Configuration;
-import java.util.List;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -9,16 +9,17 @@ public class ResourceFilter {
 
   private static final Logger LOGGER = LogManager.getLogger(ResourceFilter.class);
 
-  private final List<String> managedServiceAccountPrefixes;
-  private final List<String> managedTopicPrefixes;
-  private final List<String> managedGroupPrefixes;
-  private final List<String> managedSubjectPrefixes;
+  private final PrefixMatcher managedServiceAccountPrefixes;
+  private final PrefixMatcher managedTopicPrefixes;
+  private final PrefixMatcher managedGroupPrefixes;
+  private final PrefixMatcher managedSubjectPrefixes;
 
   public ResourceFilter(Configuration config) {
-    this.managedServiceAccountPrefixes = config.getServiceAccountManagedPrefixes();
-    this.managedTopicPrefixes = config.getTopicManagedPrefixes();
-    this.managedGroupPrefixes = config.getGroupManagedPrefixes();
-    this.managedSubjectPrefixes = config.getSubjectManagedPrefixes();
+    this.managedServiceAccountPrefixes =
+        new PrefixMatcher(config.getServiceAccountManagedPrefixes());
+    this.managedTopicPrefixes = new PrefixMatcher(config.getTopicManagedPrefixes());
+    this.managedGroupPrefixes = new PrefixMatcher(config.getGroupManagedPrefixes());
+    this.managedSubjectPrefixes = new PrefixMatcher(config.getSubjectManagedPrefixes());
   }
 
   public boolean matchesManagedPrefixList(TopologyAclBinding topologyAclBinding) {
@@ -87,9 +88,9 @@ public class ResourceFilter {
     return !managedSubjectPrefixes.isEmpty();
   }
 
-  private boolean matchesPrefix(List<String> prefixes, String item, String type) {
-    boolean matches = prefixes.isEmpty() || prefixes.stream().anyMatch(item::startsWith);
-    LOGGER.debug(String.format("%s %s matches %s with %s", type, item, matches, prefixes));
+  private boolean matchesPrefix(PrefixMatcher prefixes, String item, String type) {
+    boolean matches = prefixes.matches(item);
+    LOGGER.debug("{} {} matches {} with {}", type, item, matches, prefixes);
     return matches;
   }
 }
@@ -1,8 +1,11 @@
 package com.purbon.kafka.topology.roles;
 
 import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.utils.Utils;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,10 +19,23 @@ public class SimpleAclsProvider implements AccessControlProvider {
 
   private static final Logger LOGGER = LogManager.getLogger(SimpleAclsProvider.class);
 
+  static final int DEFAULT_DELETE_BATCH_SIZE = 1000;
+
   protected final TopologyBuilderAdminClient adminClient;
+  protected final int deleteBatchSize;
 
   public SimpleAclsProvider(final TopologyBuilderAdminClient adminClient) {
+    this(adminClient, DEFAULT_DELETE_BATCH_SIZE);
+  }
+
+  public SimpleAclsProvider(
+      final TopologyBuilderAdminClient adminClient, final Configuration config) {
+    this(adminClient, config.getAclsDeleteBatchSize());
+  }
+
+  public SimpleAclsProvider(final TopologyBuilderAdminClient adminClient, int deleteBatchSize) {
     this.adminClient = adminClient;
+    this.deleteBatchSize = deleteBatchSize;
   }
 
   @Override
@@ -37,14 +53,29 @@ public class SimpleAclsProvider implements AccessControlProvider {
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
     LOGGER.debug("AclsProvider: clearAcls");
-    for (TopologyAclBinding binding : bindings) {
+    clearBindingsInBatches(bindings);
+  }
+
+  /**
+   * Delete the bindings with one deleteAcls request per batch. Every batch is processed even if a
+   * previous one failed, the first failure is reported at the end.
+   */
+  protected void clearBindingsInBatches(Collection<TopologyAclBinding> bindings)
+      throws IOException {
+    IOException failure = null;
+    for (List<TopologyAclBinding> batch : Utils.partition(bindings, deleteBatchSize)) {
       try {
-        adminClient.clearAcls(binding);
+        adminClient.clearAcls(batch);
       } catch (IOException ex) {
         LOGGER.error(ex);
-        throw ex;
+        if (failure == null) {
+          failure = ex;
+        }
       }
     }
+    if (failure != null) {
+      throw failure;
+    }
   }
 
   @Override
@@ -1,28 +1,49 @@
 package com.purbon.kafka.topology.roles;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.purbon.kafka.topology.api.ccloud.response.KafkaAclResponse;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourceType;
 
+/**
+ * Immutable acl binding as managed by JulieOps.
+ *
+ * <p>The resource type, operation, pattern type and permission are stored as codes into a shared
+ * table of values, where the values of the matching Kafka enum come first, in ordinal order.
+ * Resource names, principals and hosts are interned, so the many bindings of the same principal or
+ * resource share a single string. The hash is computed once, and comparisons go field by field.
+ */
 @JsonIgnoreProperties("scope")
-public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
+public final class TopologyAclBinding implements Comparable<TopologyAclBinding> {
 
-  @JsonIgnore private Optional<AclBinding> aclBindingOptional;
+  private static final Vocabulary RESOURCE_TYPES = new Vocabulary(ResourceType.values());
+  private static final Vocabulary OPERATIONS = new Vocabulary(AclOperation.values());
+  private static final Vocabulary PATTERNS = new Vocabulary(PatternType.values());
+  private static final Vocabulary PERMISSIONS = new Vocabulary(AclPermissionType.values());
 
-  private String resourceType;
-  private String resourceName;
-  private String host;
-  private String operation;
-  private String principal;
-  private String pattern;
-  private String permissionType;
+  @JsonIgnore private final Optional<AclBinding> aclBindingOptional;
+
+  private final short resourceType;
+  private final String resourceName;
+  private final String host;
+  private final short operation;
+  private final String principal;
+  private final short pattern;
+  private final short permissionType;
+  private final int hash;
 
   /**
    * Topology ACL binding wrapper class constructor
@@ -42,14 +63,37 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
       String principal,
       String pattern,
       String permissionType) {
-    this.resourceType = resourceType;
-    this.resourceName = resourceName;
-    this.host = host;
-    this.operation = operation;
-    this.principal = principal;
-    this.pattern = pattern;
-    this.permissionType = StringUtils.isBlank(permissionType) ? "ALLOW" : permissionType;
-    this.aclBindingOptional = Optional.empty();
+    this(
+        Optional.empty(),
+        resourceType,
+        resourceName,
+        host,
+        operation,
+        principal,
+        pattern,
+        StringUtils.isBlank(permissionType) ? "ALLOW" : permissionType);
+  }
+
+  private TopologyAclBinding(
+      Optional<AclBinding> aclBindingOptional,
+      String resourceType,
+      String resourceName,
+      String host,
+      String operation,
+      String principal,
+      String pattern,
+      String permissionType) {
+    this.aclBindingOptional = aclBindingOptional;
+    this.resourceType = RESOURCE_TYPES.code(resourceType);
+    this.resourceName = intern(resourceName);
+    this.host = intern(host);
+    this.operation = OPERATIONS.code(operation);
+    this.principal = intern(principal);
+    this.pattern = PATTERNS.code(pattern);
+    this.permissionType = PERMISSIONS.code(permissionType);
+    this.hash =
+        Objects.hash(
+            resourceType, resourceName, host, operation, principal, pattern, permissionType);
   }
 
   /**
@@ -76,31 +120,40 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
         resourceType.name(), resourceName, host, operation, principal, pattern, permissionType);
   }
 
+  /** Read a binding from the state, where missing fields take the defaults of an empty binding. */
+  @JsonCreator
+  static TopologyAclBinding fromJson(
+      @JsonProperty("resourceType") String resourceType,
+      @JsonProperty("resourceName") String resourceName,
+      @JsonProperty("host") String host,
+      @JsonProperty("operation") String operation,
+      @JsonProperty("principal") String principal,
+      @JsonProperty("pattern") String pattern,
+      @JsonProperty("permissionType") String permissionType) {
+    return new TopologyAclBinding(
+        Objects.toString(resourceType, ResourceType.ANY.name()),
+        Objects.toString(resourceName, ""),
+        Objects.toString(host, ""),
+        Objects.toString(operation, ""),
+        Objects.toString(principal, ""),
+        Objects.toString(pattern, ""),
+        permissionType);
+  }
+
   public TopologyAclBinding() {
     this(ResourceType.ANY.name(), "", "", "", "", "", "");
   }
 
   public TopologyAclBinding(AclBinding binding) {
-    this.aclBindingOptional = Optional.of(binding);
-    AccessControlEntry entry = binding.entry();
-    ResourcePattern pattern = binding.pattern();
-    this.resourceType = pattern.resourceType().name();
-    this.resourceName = pattern.name();
-    this.principal = entry.principal();
-    this.operation = entry.operation().name();
-    this.pattern = pattern.patternType().name();
-    this.host = entry.host();
-    this.permissionType = entry.permissionType().name();
-  }
-
-  public TopologyAclBinding(KafkaAclResponse kafkaAclResponse) {
-    this.resourceName = kafkaAclResponse.getResource_name();
-    this.resourceType = kafkaAclResponse.getResource_type();
-    this.host = kafkaAclResponse.getHost();
-    this.principal = kafkaAclResponse.getPrincipal();
-    this.pattern = kafkaAclResponse.getPattern_type();
-    this.operation = kafkaAclResponse.getOperation();
-    this.permissionType = kafkaAclResponse.getPermission();
+    this(
+        Optional.of(binding),
+        binding.pattern().resourceType().name(),
+        binding.pattern().name(),
+        binding.entry().host(),
+        binding.entry().operation().name(),
+        binding.entry().principal(),
+        binding.pattern().patternType().name(),
+        binding.entry().permissionType().name());
   }
 
   public Optional<AclBinding> asAclBinding() {
@@ -108,11 +161,11 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
   }
 
   public String getResourceType() {
-    return resourceType;
+    return RESOURCE_TYPES.value(resourceType);
   }
 
   public String getPattern() {
-    return pattern;
+    return PATTERNS.value(pattern);
   }
 
   public String getPrincipal() {
@@ -120,46 +173,29 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
   }
 
   public String getOperation() {
-    return operation;
+    return OPERATIONS.value(operation);
   }
 
   public String getPermissionType() {
-    return permissionType;
+    return PERMISSIONS.value(permissionType);
   }
 
   public String getHost() {
     return host;
   }
 
-  public void setResourceType(String resourceType) {
-    this.resourceType = resourceType;
-  }
-
-  public void setHost(String host) {
-    this.host = host;
-  }
-
-  public void setOperation(String operation) {
-    this.operation = operation;
-  }
-
-  public void setPrincipal(String principal) {
-    this.principal = principal;
-  }
-
-  public void setPattern(String pattern) {
-    this.pattern = pattern;
-  }
-
-  public void setPermissionType(String permissionType) {
-    this.permissionType = permissionType;
-  }
-
   @Override
   public String toString() {
     return "{'"
         + StringUtils.joinWith(
-            "', '", resourceType, resourceName, host, operation, principal, pattern, permissionType)
+            "', '",
+            getResourceType(),
+            resourceName,
+            host,
+            getOperation(),
+            principal,
+            getPattern(),
+            getPermissionType())
         + "'}";
   }
 
@@ -176,29 +212,99 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
       return false;
     }
     TopologyAclBinding binding = (TopologyAclBinding) o;
-    return getResourceType().equals(binding.getResourceType())
-        && getResourceName().equals(binding.getResourceName())
-        && getHost().equals(binding.getHost())
-        && getOperation().equals(binding.getOperation())
-        && getPrincipal().equals(binding.getPrincipal())
-        && getPattern().equals(binding.getPattern())
-        && getPermissionType().equals(binding.permissionType);
+    return hash == binding.hash
+        && resourceType == binding.resourceType
+        && operation == binding.operation
+        && pattern == binding.pattern
+        && permissionType == binding.permissionType
+        && Objects.equals(resourceName, binding.resourceName)
+        && Objects.equals(host, binding.host)
+        && Objects.equals(principal, binding.principal);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(
-        resourceType,
-        getResourceName(),
-        getHost(),
-        getOperation(),
-        getPrincipal(),
-        getPattern(),
-        getPermissionType());
+    return hash;
   }
 
+  /** Order by the values of the fields, in the order they are printed. */
   @Override
   public int compareTo(TopologyAclBinding o) {
-    return toString().compareTo(o.toString());
+    int result = compareValues(getResourceType(), o.getResourceType());
+    if (result == 0) {
+      result = compareValues(resourceName, o.resourceName);
+    }
+    if (result == 0) {
+      result = compareValues(host, o.host);
+    }
+    if (result == 0) {
+      result = compareValues(getOperation(), o.getOperation());
+    }
+    if (result == 0) {
+      result = compareValues(principal, o.principal);
+    }
+    if (result == 0) {
+      result = compareValues(getPattern(), o.getPattern());
+    }
+    if (result == 0) {
+      result = compareValues(getPermissionType(), o.getPermissionType());
+    }
+    return result;
+  }
+
+  /** Null values sort first, so the order stays consistent with equals. */
+  private static int compareValues(String a, String b) {
+    if (a == null || b == null) {
+      return a == null ? (b == null ? 0 : -1) : 1;
+    }
+    return a.compareTo(b);
+  }
+
+  private static String intern(String value) {
+    return value == null ? null : value.intern();
+  }
+
+  /**
+   * Table of the values of an enum-like field, shared by every binding. The enum names come first,
+   * so their codes are the enum ordinals, other values are appended when first seen.
+   */
+  private static final class Vocabulary {
+
+    private final Map<String, Short> codes;
+    // copied on write, so the values can be read without locking
+    private volatile String[] values;
+
+    Vocabulary(Enum<?>[] constants) {
+      this.codes = new ConcurrentHashMap<>();
+      this.values = new String[0];
+      Arrays.stream(constants).map(Enum::name).forEach(this::code);
+    }
+
+    short code(String value) {
+      if (value == null) {
+        return -1;
+      }
+      Short code = codes.get(value);
+      if (code != null) {
+        return code;
+      }
+      synchronized (this) {
+        return codes.computeIfAbsent(value, this::append);
+      }
+    }
+
+    private short append(String value) {
+      if (values.length == Short.MAX_VALUE) {
+        throw new IllegalStateException("Too many distinct acl values, adding " + value);
+      }
+      String[] extended = Arrays.copyOf(values, values.length + 1);
+      extended[values.length] = value;
+      values = extended;
+      return (short) (extended.length - 1);
+    }
+
+    String value(short code) {
+      return code < 0 ? null : values[code];
+    }
   }
 }
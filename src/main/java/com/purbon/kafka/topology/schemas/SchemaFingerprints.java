@@ -0,0 +1,106 @@
+package com.purbon.kafka.topology.schemas;
+
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Fingerprints of the schema and compatibility last synced for every subject. Subjects whose
+ * fingerprint did not change since the last run are known to be up to date, without reading them
+ * back from the registry. The fingerprints are kept in a local file, tagged with the registry url
+ * so that a file written for another registry is never trusted.
+ */
+public class SchemaFingerprints {
+
+  private static final Logger LOGGER = LogManager.getLogger(SchemaFingerprints.class);
+
+  private final Optional<Path> file;
+  private final String registryUrl;
+  private final Map<String, String> fingerprints;
+  private volatile boolean dirty;
+
+  public SchemaFingerprints(Optional<Path> file, String registryUrl) {
+    // a mock registry lives in memory, it never has the subjects of a previous run
+    this.file = registryUrl.startsWith("mock://") ? Optional.empty() : file;
+    this.registryUrl = registryUrl;
+    this.fingerprints = new ConcurrentHashMap<>();
+    this.file.ifPresent(this::load);
+  }
+
+  /** Fingerprints kept for the life of the process only. */
+  public static SchemaFingerprints inMemory() {
+    return new SchemaFingerprints(Optional.empty(), "");
+  }
+
+  public static String fingerprint(String format, String schema, Optional<String> compatibility) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(String.valueOf(format).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(schema.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(compatibility.orElse("").toUpperCase().getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public boolean matches(String subject, String fingerprint) {
+    return fingerprint.equals(fingerprints.get(subject));
+  }
+
+  public void put(String subject, String fingerprint) {
+    if (!fingerprint.equals(fingerprints.put(subject, fingerprint))) {
+      dirty = true;
+    }
+  }
+
+  /** Write the fingerprints to the local file, when any changed. */
+  public synchronized void flush() throws IOException {
+    if (file.isEmpty() || !dirty) {
+      return;
+    }
+    dirty = false;
+    Map<String, Object> content = new HashMap<>();
+    content.put("registry", registryUrl);
+    content.put("subjects", new TreeMap<>(fingerprints));
+    Path target = file.get();
+    Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+    Files.writeString(tmp, JSON.asString(content));
+    Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void load(Path path) {
+    if (!Files.exists(path)) {
+      return;
+    }
+    try {
+      Map<String, Object> content = JSON.toMap(Files.readString(path));
+      if (!registryUrl.equals(content.get("registry"))) {
+        LOGGER.debug("Ignoring the schema fingerprints of another registry in " + path);
+        return;
+      }
+      Object subjects = content.get("subjects");
+      if (subjects instanceof Map) {
+        ((Map<String, Object>) subjects).forEach((k, v) -> fingerprints.put(k, String.valueOf(v)));
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Ignoring unreadable schema fingerprints in " + path, e);
+    }
+  }
+}
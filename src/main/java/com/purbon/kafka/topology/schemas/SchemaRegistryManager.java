@@ -3,6 +3,7 @@ package com.purbon.kafka.topology.schemas;
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -28,10 +29,19 @@ public class SchemaRegistryManager {
 
   private final SchemaRegistryClient schemaRegistryClient;
   private final String rootPath;
+  private final SchemaFingerprints fingerprints;
 
   public SchemaRegistryManager(
       SchemaRegistryClient schemaRegistryClient, String topologyFileOrDir) {
+    this(schemaRegistryClient, topologyFileOrDir, SchemaFingerprints.inMemory());
+  }
+
+  public SchemaRegistryManager(
+      SchemaRegistryClient schemaRegistryClient,
+      String topologyFileOrDir,
+      SchemaFingerprints fingerprints) {
     this.schemaRegistryClient = schemaRegistryClient;
+    this.fingerprints = fingerprints;
     this.rootPath =
         Files.isDirectory(Paths.get(topologyFileOrDir))
             ? topologyFileOrDir
@@ -58,6 +68,78 @@ public class SchemaRegistryManager {
     }
   }
 
+  /**
+   * Whether the schema and compatibility of the subject are the ones synced last time, according
+   * to the local fingerprints only.
+   */
+  public boolean isUpToDate(
+      String subjectName, String schemaFile, String format, Optional<String> compatibility) {
+    try {
+      String schema = Files.readString(schemaFilePath(schemaFile));
+      return fingerprints.matches(
+          subjectName, SchemaFingerprints.fingerprint(format, schema, compatibility));
+    } catch (Exception e) {
+      LOGGER.debug("Failed to read the schema file " + schemaFile, e);
+      return false;
+    }
+  }
+
+  /**
+   * Register the schema of the subject and set its compatibility, skipping what the registry
+   * already has. Unchanged subjects are skipped from their local fingerprint, other subjects are
+   * only registered when the registry does not know the schema yet.
+   */
+  public void sync(
+      String subjectName, String schemaFile, String format, Optional<String> compatibility) {
+    final String schema;
+    try {
+      schema = Files.readString(schemaFilePath(schemaFile));
+    } catch (Exception e) {
+      throw new SchemaRegistryManagerException("Failed to parse the schema file " + schemaFile, e);
+    }
+    String fingerprint = SchemaFingerprints.fingerprint(format, schema, compatibility);
+    if (fingerprints.matches(subjectName, fingerprint)) {
+      LOGGER.debug(String.format("Subject %s is up to date", subjectName));
+      return;
+    }
+    ParsedSchema parsedSchema = parse(subjectName, format, schema);
+    if (isRegistered(subjectName, parsedSchema)) {
+      LOGGER.debug(String.format("Subject %s already has the schema %s", subjectName, schemaFile));
+    } else {
+      register(subjectName, format, parsedSchema);
+    }
+    compatibility
+        .filter(mode -> !mode.equalsIgnoreCase(currentCompatibility(subjectName)))
+        .ifPresent(mode -> setCompatibility(subjectName, mode));
+    fingerprints.put(subjectName, fingerprint);
+  }
+
+  /** Save the fingerprints of the subjects synced so far. */
+  public void flushFingerprints() {
+    try {
+      fingerprints.flush();
+    } catch (IOException e) {
+      LOGGER.warn("Failed to save the schema fingerprints", e);
+    }
+  }
+
+  private boolean isRegistered(String subjectName, ParsedSchema parsedSchema) {
+    try {
+      schemaRegistryClient.getId(subjectName, parsedSchema);
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private String currentCompatibility(String subjectName) {
+    try {
+      return schemaRegistryClient.getCompatibility(subjectName);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
   public String setCompatibility(String subject, String compatibility) {
     try {
       return schemaRegistryClient.updateCompatibility(subject, compatibility);
@@ -79,17 +161,23 @@ public class SchemaRegistryManager {
   }
 
   protected int save(String subjectName, String schemaType, String schemaString) {
+    return register(subjectName, schemaType, parse(subjectName, schemaType, schemaString));
+  }
+
+  private ParsedSchema parse(String subjectName, String schemaType, String schemaString) {
     final Optional<ParsedSchema> maybeSchema =
         schemaRegistryClient.parseSchema(schemaType, schemaString, Collections.emptyList());
-    final ParsedSchema parsedSchema =
-        maybeSchema.orElseThrow(
-            () -> {
-              final String msg =
-                  String.format(
-                      "Failed to parse the schema for subject '%s' of type '%s'",
-                      subjectName, schemaType);
-              return new SchemaRegistryManagerException(msg);
-            });
+    return maybeSchema.orElseThrow(
+        () -> {
+          final String msg =
+              String.format(
+                  "Failed to parse the schema for subject '%s' of type '%s'",
+                  subjectName, schemaType);
+          return new SchemaRegistryManagerException(msg);
+        });
+  }
+
+  private int register(String subjectName, String schemaType, ParsedSchema parsedSchema) {
     try {
       return schemaRegistryClient.register(subjectName, parsedSchema);
     } catch (Exception e) {
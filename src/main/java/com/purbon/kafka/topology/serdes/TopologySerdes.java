@@ -1,6 +1,7 @@
 package com.purbon.kafka.topology.serdes;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -12,10 +13,12 @@ import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 
 public class TopologySerdes {
 
   private ObjectMapper mapper;
+  private TopologyTreeCache cache;
 
   public enum FileType {
     JSON,
@@ -32,10 +35,21 @@ public class TopologySerdes {
 
   public TopologySerdes(Configuration config, FileType type, PlanMap plans) {
     mapper = ObjectMapperFactory.build(type, config, plans);
+    cache =
+        config
+            .getParsingCacheDir()
+            .map(dir -> new TopologyTreeCache(Paths.get(dir), config.getParsingCacheMaxEntries()))
+            .orElse(null);
   }
 
   public Topology deserialise(File file) {
     try {
+      if (cache != null) {
+        JsonNode tree = cache.readTree(file, mapper);
+        if (!tree.isMissingNode()) {
+          return mapper.readValue(mapper.treeAsTokens(tree), Topology.class);
+        }
+      }
       return mapper.readValue(file, Topology.class);
     } catch (IOException e) {
       throw new TopologyParsingException(
@@ -0,0 +1,152 @@
+package com.purbon.kafka.topology.serdes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * On disk cache of parsed descriptor files. A descriptor is stored as a Jackson tree in the binary
+ * Smile format, keyed by the hash of its content and of its source format, so an unchanged file is
+ * read back without going through the YAML parser again. The tree is the raw descriptor, before
+ * the configuration and plans are applied, so the cache stays valid when they change.
+ *
+ * <p>Entries of removed or edited descriptors are never read again, so once the cache holds more
+ * than maxEntries the least recently used ones are deleted. Reading an entry touches it. The
+ * directory is only listed by the first store of the process, and then again once the stores since
+ * went over maxEntries.
+ */
+public class TopologyTreeCache {
+
+  private static final Logger LOGGER = LogManager.getLogger(TopologyTreeCache.class);
+
+  private static final String ENTRY_SUFFIX = ".smile";
+
+  // entries by cache directory, shared by the caches of the parsing threads, -1 until listed
+  private static final Map<Path, AtomicInteger> ENTRY_COUNTS = new ConcurrentHashMap<>();
+
+  private final Path directory;
+  private final int maxEntries;
+  private final ObjectMapper smileMapper;
+
+  public TopologyTreeCache(Path directory, int maxEntries) {
+    this.directory = directory;
+    this.maxEntries = maxEntries;
+    this.smileMapper = new ObjectMapper(new SmileFactory());
+  }
+
+  public JsonNode readTree(File file, ObjectMapper parser) throws IOException {
+    byte[] content = Files.readAllBytes(file.toPath());
+    Path entry = directory.resolve(key(parser.getFactory().getFormatName(), content));
+    if (Files.exists(entry)) {
+      try {
+        JsonNode tree = smileMapper.readTree(entry.toFile());
+        touch(entry);
+        LOGGER.debug("Loaded " + file.getPath() + " from the parsing cache");
+        return tree;
+      } catch (IOException e) {
+        LOGGER.warn("Ignoring unreadable parsing cache entry " + entry, e);
+      }
+    }
+    JsonNode tree = parser.readTree(content);
+    store(entry, tree);
+    return tree;
+  }
+
+  private void store(Path entry, JsonNode tree) {
+    try {
+      Files.createDirectories(directory);
+      Path tmp = Files.createTempFile(directory, "entry", ".tmp");
+      smileMapper.writeValue(tmp.toFile(), tree);
+      Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      stored();
+    } catch (IOException e) {
+      // a failing cache only makes the next run slower
+      LOGGER.warn("Failed to write parsing cache entry " + entry, e);
+    }
+  }
+
+  private static void touch(Path entry) {
+    try {
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException e) {
+      LOGGER.debug("Failed to touch parsing cache entry " + entry, e);
+    }
+  }
+
+  private void stored() throws IOException {
+    AtomicInteger count =
+        ENTRY_COUNTS.computeIfAbsent(
+            directory.toAbsolutePath().normalize(), dir -> new AtomicInteger(-1));
+    synchronized (count) {
+      if (count.get() < 0 || count.incrementAndGet() > maxEntries) {
+        count.set(evict());
+      }
+    }
+  }
+
+  /**
+   * Delete the least recently used entries above maxEntries.
+   *
+   * @return the number of entries left
+   */
+  private int evict() throws IOException {
+    List<Path> entries;
+    try (Stream<Path> paths = Files.list(directory)) {
+      entries = paths.filter(path -> path.toString().endsWith(ENTRY_SUFFIX)).toList();
+    }
+    if (entries.size() <= maxEntries) {
+      return entries.size();
+    }
+    Map<Path, FileTime> lastUsed = new HashMap<>();
+    for (Path entry : entries) {
+      try {
+        lastUsed.put(entry, Files.getLastModifiedTime(entry));
+      } catch (NoSuchFileException e) {
+        // deleted by a concurrent run
+      }
+    }
+    lastUsed.entrySet().stream()
+        .sorted(Map.Entry.comparingByValue())
+        .limit(Math.max(0, lastUsed.size() - maxEntries))
+        .forEach(
+            e -> {
+              try {
+                Files.deleteIfExists(e.getKey());
+              } catch (IOException ex) {
+                LOGGER.warn("Failed to evict parsing cache entry " + e.getKey(), ex);
+              }
+            });
+    return Math.min(lastUsed.size(), maxEntries);
+  }
+
+  private static String key(String format, byte[] content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(format.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(content);
+      return HexFormat.of().formatHex(digest.digest()) + ENTRY_SUFFIX;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
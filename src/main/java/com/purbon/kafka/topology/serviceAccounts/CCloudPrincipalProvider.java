@@ -3,6 +3,7 @@ package com.purbon.kafka.topology.serviceAccounts;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.PrincipalProvider;
 import com.purbon.kafka.topology.api.ccloud.CCloudApi;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountsCache;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import java.io.IOException;
 import java.util.Set;
@@ -10,9 +11,16 @@ import java.util.Set;
 public class CCloudPrincipalProvider implements PrincipalProvider {
 
   private CCloudApi cCloudApi;
+  private ServiceAccountsCache serviceAccounts;
 
   public CCloudPrincipalProvider(Configuration config) throws IOException {
+    this(config, ServiceAccountsCache.build(config));
+  }
+
+  public CCloudPrincipalProvider(Configuration config, ServiceAccountsCache serviceAccounts)
+      throws IOException {
     this.cCloudApi = new CCloudApi(config.getConfluentCloudClusterUrl(), config);
+    this.serviceAccounts = serviceAccounts;
   }
 
   @Override
@@ -22,17 +30,20 @@ public class CCloudPrincipalProvider implements PrincipalProvider {
 
   @Override
   public Set<ServiceAccount> listServiceAccounts() throws IOException {
-    return cCloudApi.listServiceAccounts();
+    return serviceAccounts.listServiceAccounts();
   }
 
   @Override
   public ServiceAccount createServiceAccount(String principal, String description)
       throws IOException {
-    return cCloudApi.createServiceAccount(principal, description);
+    ServiceAccount serviceAccount = cCloudApi.createServiceAccount(principal, description);
+    serviceAccounts.added(serviceAccount);
+    return serviceAccount;
   }
 
   @Override
   public void deleteServiceAccount(ServiceAccount serviceAccount) throws IOException {
     cCloudApi.deleteServiceAccount(serviceAccount.getId());
+    serviceAccounts.removed(serviceAccount);
   }
 }
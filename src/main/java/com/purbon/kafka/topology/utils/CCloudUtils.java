@@ -1,10 +1,12 @@
 package com.purbon.kafka.topology.utils;
 
 import com.purbon.kafka.topology.Configuration;
-import com.purbon.kafka.topology.api.ccloud.CCloudApi;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.model.cluster.ServiceAccountV1;
 import com.purbon.kafka.topology.model.users.ConfluentCloudPrincipal;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -59,14 +61,15 @@ public class CCloudUtils {
         binding.getPermissionType());
   }
 
-  public Map<String, Long> initializeLookupTable(CCloudApi cli) throws IOException {
+  /** Map the names of the v2 service accounts to the numeric id of their v1 counterpart. */
+  public static Map<String, Long> buildLookupTable(
+      Collection<ServiceAccount> v2ServiceAccounts,
+      Collection<ServiceAccountV1> v1ServiceAccounts) {
     Map<String, Long> lookupServiceAccountTable = new HashMap<>();
     Map<String, String> lookupSaName = new HashMap<>();
-    var v2ServiceAccounts = cli.listServiceAccounts();
     for (var serviceAccount : v2ServiceAccounts) {
       lookupSaName.put(serviceAccount.getId(), serviceAccount.getName());
     }
-    var v1ServiceAccounts = cli.listServiceAccountsV1();
     for (var serviceAccount : v1ServiceAccounts) {
       var serviceAccountNameOptional =
           Optional.ofNullable(lookupSaName.get(serviceAccount.getResource_id()));
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.utils;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
@@ -8,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -64,4 +66,9 @@ public final class JSON {
   public static JsonNode toNode(String jsonString) throws JsonProcessingException {
     return mapper.readTree(jsonString);
   }
+
+  /** A streaming parser over the json string, for documents too large to bind at once. */
+  public static JsonParser parser(String jsonString) throws IOException {
+    return mapper.createParser(jsonString);
+  }
 }
@@ -0,0 +1,42 @@
+package com.purbon.kafka.topology.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The last value computed for an object, reused while the inputs it was computed from stay equal.
+ * The inputs are compared by value, maps are copied when stored, so a context map changed in place
+ * is seen as a change as well as a new one.
+ */
+public final class Memo<T> {
+
+  private volatile Entry<T> last;
+
+  public T get(List<Object> inputs, Supplier<T> compute) {
+    Entry<T> entry = last;
+    if (entry != null && entry.inputs.equals(inputs)) {
+      return entry.value;
+    }
+    T value = compute.get();
+    last = new Entry<>(copyOf(inputs), value);
+    return value;
+  }
+
+  private static List<Object> copyOf(List<Object> inputs) {
+    return inputs.stream()
+        .map(input -> input instanceof Map<?, ?> map ? (Object) new HashMap<>(map) : input)
+        .toList();
+  }
+
+  private static final class Entry<T> {
+    private final List<Object> inputs;
+    private final T value;
+
+    private Entry(List<Object> inputs, T value) {
+      this.inputs = inputs;
+      this.value = value;
+    }
+  }
+}
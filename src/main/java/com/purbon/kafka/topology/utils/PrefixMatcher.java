@@ -0,0 +1,56 @@
+package com.purbon.kafka.topology.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Match names against a list of managed prefixes with a binary search instead of a scan of every
+ * prefix.
+ *
+ * <p>The prefixes are sorted, and the ones starting with another prefix of the list are dropped as
+ * they can not change the outcome. If a name starts with one of the remaining prefixes, that prefix
+ * is the greatest one not after the name in sort order, so a name is checked against one prefix
+ * only. An empty list of prefixes matches every name, as when no managed prefixes are configured
+ * every resource is managed.
+ */
+public final class PrefixMatcher {
+
+  private final String[] prefixes;
+  private final List<String> source;
+
+  public PrefixMatcher(Collection<String> prefixes) {
+    this.source = List.copyOf(prefixes);
+    String[] sorted = prefixes.stream().sorted().distinct().toArray(String[]::new);
+    List<String> minimal = new ArrayList<>();
+    for (String prefix : sorted) {
+      // sorted order puts a prefix right before the entries starting with it
+      if (minimal.isEmpty() || !prefix.startsWith(minimal.getLast())) {
+        minimal.add(prefix);
+      }
+    }
+    this.prefixes = minimal.toArray(new String[0]);
+  }
+
+  public boolean isEmpty() {
+    return prefixes.length == 0;
+  }
+
+  public boolean matches(String name) {
+    if (isEmpty()) {
+      return true;
+    }
+    int index = Arrays.binarySearch(prefixes, name);
+    if (index >= 0) {
+      return true;
+    }
+    int floor = -index - 2;
+    return floor >= 0 && name.startsWith(prefixes[floor]);
+  }
+
+  @Override
+  public String toString() {
+    return source.toString();
+  }
+}
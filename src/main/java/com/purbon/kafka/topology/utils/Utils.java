@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -30,4 +31,20 @@ public final class Utils {
     LOGGER.debug(String.format("Artefact File %s loaded from %s", file, path));
     return path;
   }
+
+  /**
+   * Split a collection into consecutive batches of at most batchSize elements, keeping the
+   * iteration order of the source collection.
+   */
+  public static <T> List<List<T>> partition(Collection<T> items, int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size should be positive, got " + batchSize);
+    }
+    List<T> list = new ArrayList<>(items);
+    List<List<T>> batches = new ArrayList<>();
+    for (int i = 0; i < list.size(); i += batchSize) {
+      batches.add(list.subList(i, Math.min(i + batchSize, list.size())));
+    }
+    return batches;
+  }
 }
@@ -19,21 +19,21 @@ public class TopicNameRegexValidation implements TopicValidation {
   private static final Logger LOGGER = LogManager.getLogger(TopicNameRegexValidation.class);
 
   private String topicNamePattern;
+  private final Pattern compiledPattern;
 
   public TopicNameRegexValidation(Configuration config) throws ConfigurationException {
     this(getTopicNamePatternFromConfig(config));
   }
 
   public TopicNameRegexValidation(String pattern) throws ConfigurationException {
-    validateRegexpPattern(pattern);
-
+    this.compiledPattern = validateRegexpPattern(pattern);
     this.topicNamePattern = pattern;
   }
 
   @Override
   public void valid(Topic topic) throws ValidationException {
     LOGGER.trace(String.format("Applying Topic Name Regex Validation [%s]", topicNamePattern));
-    if (!topic.getName().matches(topicNamePattern)) {
+    if (!compiledPattern.matcher(topic.getName()).matches()) {
       String msg =
           String.format("Topic name '%s' does not follow regex: %s", topic, topicNamePattern);
       throw new ValidationException(msg);
@@ -53,14 +53,14 @@ public class TopicNameRegexValidation implements TopicValidation {
     }
   }
 
-  private void validateRegexpPattern(String pattern) throws ConfigurationException {
+  private static Pattern validateRegexpPattern(String pattern) throws ConfigurationException {
     if (StringUtils.isBlank(pattern)) {
       throw new ConfigurationException(
           "TopicNameRegexValidation is configured without specifying a topic name pattern. Use config 'topology.validations.regexp'");
     }
 
     try {
-      Pattern.compile(pattern);
+      return Pattern.compile(pattern);
     } catch (PatternSyntaxException exception) {
       throw new ConfigurationException(
           String.format("TopicNameRegexValidation configured with invalid regex '%s'", pattern));
@@ -5,9 +5,12 @@ import com.purbon.kafka.topology.model.Project;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.validation.TopologyValidation;
+import java.util.regex.Pattern;
 
 public class CamelCaseNameFormatValidation implements TopologyValidation {
 
+  private static final Pattern CAMEL_CASE_PATTERN = Pattern.compile("([a-z]+[A-Z]+\\w+)+");
+
   @Override
   public void valid(Topology topology) throws ValidationException {
 
@@ -21,8 +24,7 @@ public class CamelCaseNameFormatValidation implements TopologyValidation {
   }
 
   private void matches(String name, String clazz) throws ValidationException {
-    final String camelCasePattern = "([a-z]+[A-Z]+\\w+)+";
-    if (!name.matches(camelCasePattern)) {
+    if (!CAMEL_CASE_PATTERN.matcher(name).matches()) {
       String msg = String.format("%s name does not follow the camelCase format: %s", clazz, name);
       throw new ValidationException(msg);
     }
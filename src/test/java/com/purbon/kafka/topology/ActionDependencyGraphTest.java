@@ -0,0 +1,108 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.CreateArtefactAction;
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
+import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
+import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ActionDependencyGraphTest {
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock SchemaRegistryManager schemaRegistryManager;
+  @Mock PrincipalProvider principalProvider;
+  @Mock AccessControlProvider accessControlProvider;
+  @Mock ArtefactClient artefactClient;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Test
+  public void shouldRegisterSchemasAfterTheTopicIsCreated() {
+    Topic topicA = new Topic("topicA");
+    Topic topicB = new Topic("topicB");
+    List<Action> actions =
+        Arrays.asList(
+            new CreateTopicAction(adminClient, topicA, "topicA"),
+            new CreateTopicAction(adminClient, topicB, "topicB"),
+            new RegisterSchemaAction(schemaRegistryManager, topicA, "topicA"),
+            new RegisterSchemaAction(schemaRegistryManager, topicB, "topicB"));
+    ActionDependencyGraph graph = new ActionDependencyGraph(actions);
+    assertThat(graph.dependenciesOf(0)).isEmpty();
+    assertThat(graph.dependenciesOf(1)).isEmpty();
+    assertThat(graph.dependenciesOf(2)).containsExactly(0);
+    assertThat(graph.dependenciesOf(3)).containsExactly(1);
+  }
+
+  @Test
+  public void shouldCreateAccountsBeforeBindingsAndDeleteAccountsLast() {
+    ServiceAccount account = new ServiceAccount("-1", "User:foo", "");
+    List<Action> actions =
+        Arrays.asList(
+            new CreateAccounts(principalProvider, Collections.singleton(account)),
+            new CreateTopicAction(adminClient, new Topic("topicA"), "topicA"),
+            new CreateBindings(accessControlProvider, Collections.emptySet()),
+            new ClearAccounts(principalProvider, Collections.singletonList(account)));
+    ActionDependencyGraph graph = new ActionDependencyGraph(actions);
+    assertThat(graph.dependenciesOf(1)).isEmpty();
+    assertThat(graph.dependenciesOf(2)).containsExactly(0);
+    assertThat(graph.dependenciesOf(3)).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  public void shouldKeepKsqlArtefactsInPlanOrder() {
+    List<Action> actions =
+        Arrays.asList(
+            new CreateTopicAction(adminClient, new Topic("topicA"), "topicA"),
+            new CreateArtefactAction(
+                artefactClient,
+                "",
+                Collections.emptyList(),
+                new KsqlStreamArtefact("stream.sql", null, "streamA")),
+            new CreateArtefactAction(
+                artefactClient,
+                "",
+                Collections.emptyList(),
+                new KsqlTableArtefact("table.sql", null, "tableA")));
+    ActionDependencyGraph graph = new ActionDependencyGraph(actions);
+    assertThat(graph.dependenciesOf(1)).containsExactly(0);
+    assertThat(graph.dependenciesOf(2)).containsExactly(0, 1);
+  }
+
+  @Test
+  public void shouldTreatUnknownActionsAsBarrier() {
+    Action custom =
+        new Action() {
+          @Override
+          public void run() throws IOException {}
+        };
+    List<Action> actions =
+        Arrays.asList(
+            new CreateTopicAction(adminClient, new Topic("topicA"), "topicA"),
+            new CreateTopicAction(adminClient, new Topic("topicB"), "topicB"),
+            custom,
+            new CreateTopicAction(adminClient, new Topic("topicC"), "topicC"));
+    ActionDependencyGraph graph = new ActionDependencyGraph(actions);
+    assertThat(graph.dependenciesOf(2)).containsExactly(0, 1);
+    assertThat(graph.dependenciesOf(3)).containsExactly(2);
+  }
+}
@@ -39,6 +39,18 @@ public class BackendControllerTest {
     verify(fileStateProcessor, times(1)).load();
   }
 
+  @Test
+  public void testStateKeptLoadedIsReadOnce() throws IOException {
+    BackendController backend = new BackendController(fileStateProcessor);
+    backend.keepLoaded();
+    when(fileStateProcessor.load()).thenReturn(new BackendState());
+    backend.load();
+    backend.addTopics(Collections.singleton("topic"));
+    backend.load();
+    verify(fileStateProcessor, times(1)).load();
+    assertEquals(Collections.singleton("topic"), backend.getTopics());
+  }
+
   @Test
   public void testClusterStateSize() {
     BackendController backend = new BackendController(fileStateProcessor);
@@ -1,6 +1,7 @@
 package com.purbon.kafka.topology;
 
 import static com.purbon.kafka.topology.CommandLineInterface.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.verify;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -63,9 +65,30 @@ public class CLITest {
     verify(cli, times(1)).processTopology(eq("descriptor.yaml"), eq("default"), eq(config));
   }
 
+  @Test
+  public void testWatchIsAlwaysADryRun() throws Exception {
+    String[] args =
+        new String[] {
+          "--brokers", "localhost:9092",
+          "--topology", "descriptor.yaml",
+          "--clientConfig", "topology-builder-sasl-plain.properties",
+          "--watch"
+        };
+    doNothing().when(cli).runDaemon(eq("descriptor.yaml"), eq("default"), anyMap(), eq(true));
+    Map<String, String> config = getDefaultMap();
+    config.put(BROKERS_OPTION, "localhost:9092");
+    config.put(WATCH_OPTION, "true");
+    config.put(CLIENT_CONFIG_OPTION, "topology-builder-sasl-plain.properties");
+    config.put(OVERRIDING_CLIENT_CONFIG_OPTION, null);
+    cli.run(args);
+    verify(cli, times(1)).runDaemon(eq("descriptor.yaml"), eq("default"), eq(config), eq(true));
+    assertThat(new Configuration(config, new Properties()).isDryRun()).isTrue();
+  }
+
   private Map<String, String> getDefaultMap() {
     Map<String, String> map = new HashMap<>();
     map.put(DRY_RUN_OPTION, "false");
+    map.put(WATCH_OPTION, "false");
     map.put(RECURSIVE_OPTION, "false");
     map.put(QUIET_OPTION, "false");
     map.put(VALIDATE_OPTION, "false");
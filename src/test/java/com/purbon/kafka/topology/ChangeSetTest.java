@@ -0,0 +1,74 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ChangeSetTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private File topologyDir;
+  private List<Path> descriptors;
+
+  @Before
+  public void before() throws IOException {
+    topologyDir = folder.newFolder("topologies");
+    descriptors =
+        List.of(
+            Files.createFile(topologyDir.toPath().resolve("a.yaml")),
+            Files.createFile(topologyDir.toPath().resolve("b.yaml")),
+            Files.createFile(topologyDir.toPath().resolve("c.yaml")));
+  }
+
+  @Test
+  public void shouldSelectTheChangedDescriptorsOnly() throws IOException {
+    Path list = folder.newFile("changes.txt").toPath();
+    Files.writeString(
+        list,
+        String.join(
+            "\n",
+            topologyDir + "/c.yaml",
+            "",
+            topologyDir + "/./a.yaml",
+            folder.getRoot() + "/README.md"));
+
+    Optional<List<Path>> affected =
+        ChangeSet.read(list, folder.getRoot().toPath())
+            .affectedDescriptors(topologyDir.toString(), descriptors);
+
+    assertThat(affected).contains(List.of(descriptors.get(0), descriptors.get(2)));
+  }
+
+  @Test
+  public void shouldResolveRelativePathsAgainstTheBaseDirectory() throws IOException {
+    Path list = folder.newFile("changes.txt").toPath();
+    Files.writeString(list, "topologies/b.yaml\nREADME.md\n");
+
+    Optional<List<Path>> affected =
+        ChangeSet.read(list, folder.getRoot().toPath())
+            .affectedDescriptors(topologyDir.toString(), descriptors);
+
+    assertThat(affected).contains(List.of(descriptors.get(1)));
+  }
+
+  @Test
+  public void shouldPlanEverythingWhenAnotherTopologyFileChanged() {
+    ChangeSet changes =
+        new ChangeSet(
+            List.of(
+                topologyDir.toPath().resolve("b.yaml"),
+                topologyDir.toPath().resolve("schemas/b-value.avsc")));
+
+    assertThat(changes.affectedDescriptors(topologyDir.toString(), descriptors)).isEmpty();
+  }
+}
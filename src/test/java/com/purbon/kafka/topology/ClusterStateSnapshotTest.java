@@ -0,0 +1,79 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ClusterStateSnapshotTest {
+
+  @Test
+  public void shouldFetchEveryKeyOnlyOnce() throws IOException {
+    AtomicInteger calls = new AtomicInteger();
+    ClusterStateSnapshot.Query<Set<String>> query =
+        () -> {
+          calls.incrementAndGet();
+          return Set.of("topicA");
+        };
+
+    try (ClusterStateSnapshot clusterState = new ClusterStateSnapshot()) {
+      assertThat(clusterState.get("topics", query)).containsExactly("topicA");
+      assertThat(clusterState.get("topics", query)).containsExactly("topicA");
+      clusterState.get("other", query);
+    }
+
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldFetchPrefetchedQueriesConcurrently() throws Exception {
+    CountDownLatch started = new CountDownLatch(2);
+
+    try (ClusterStateSnapshot clusterState = ClusterStateSnapshot.concurrent()) {
+      // every query waits for the other one to have started
+      ClusterStateSnapshot.Query<Boolean> query =
+          () -> {
+            started.countDown();
+            try {
+              return started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              throw new IOException(e);
+            }
+          };
+      clusterState.prefetch("first", query);
+      clusterState.prefetch("second", query);
+
+      assertThat(clusterState.get("first", query)).isTrue();
+      assertThat(clusterState.get("second", query)).isTrue();
+    }
+  }
+
+  @Test
+  public void shouldRethrowTheQueryException() {
+    try (ClusterStateSnapshot clusterState = ClusterStateSnapshot.concurrent()) {
+      ClusterStateSnapshot.Query<Object> query =
+          () -> {
+            throw new IOException("cluster not available");
+          };
+      clusterState.prefetch("failing", query);
+
+      assertThatThrownBy(() -> clusterState.get("failing", query))
+          .isInstanceOf(IOException.class)
+          .hasMessage("cluster not available");
+    }
+  }
+
+  @Test
+  public void shouldFetchInTheCallingThreadOnceClosed() throws IOException {
+    ClusterStateSnapshot clusterState = ClusterStateSnapshot.concurrent();
+    clusterState.close();
+
+    assertThat(clusterState.get("topics", () -> Set.of("topicA"))).containsExactly("topicA");
+    assertThat(clusterState.get("topics", () -> Set.of("topicB"))).containsExactly("topicA");
+  }
+}
@@ -1,7 +1,13 @@
 package com.purbon.kafka.topology;
 
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -22,6 +28,8 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import org.apache.kafka.common.acl.AclPermissionType;
 import org.apache.kafka.common.resource.ResourceType;
@@ -137,6 +145,23 @@ public class ExecutionPlanTest {
     assertEquals(2, backendController.size());
   }
 
+  @Test
+  public void addTopicsInBatchTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().getFirst().getTopics().get(0);
+    Topic topicBar = topology.getProjects().getFirst().getTopics().get(1);
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+    plan.coalesceCreateTopicActions(100);
+    plan.run();
+    Map<String, Topic> topics = new LinkedHashMap<>();
+    topics.put(topicFoo.toString(), topicFoo);
+    topics.put(topicBar.toString(), topicBar);
+    verify(adminClient, times(1)).createTopics(topics);
+    verify(adminClient, never()).createTopic(any(Topic.class), anyString());
+    assertEquals(2, backendController.size());
+  }
+
   @Test
   public void deleteTopicsPreviouslyAddedTest() throws IOException {
     Topology topology = buildTopologyForTest();
@@ -162,6 +187,67 @@ public class ExecutionPlanTest {
     assertEquals(1, backendController.size());
   }
 
+  @Test
+  public void runInParallelTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().getFirst().getTopics().get(0);
+    Topic topicBar = topology.getProjects().getFirst().getTopics().get(1);
+    TopologyAclBinding binding =
+        new TopologyAclBinding(
+            ResourceType.TOPIC.name(),
+            topicFoo.toString(),
+            "*",
+            "READ",
+            "User:foo",
+            "LITERAL",
+            AclPermissionType.ALLOW.name());
+    Set<TopologyAclBinding> bindings = new HashSet<>(singletonList(binding));
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+    plan.add(new CreateBindings(aclsProvider, bindings));
+    plan.run(false, 4);
+    verify(adminClient, times(1)).createTopic(topicFoo, topicFoo.toString());
+    verify(adminClient, times(1)).createTopic(topicBar, topicBar.toString());
+    verify(aclsProvider, times(1)).createBindings(bindings);
+    assertEquals(3, backendController.size());
+  }
+
+  @Test
+  public void runInParallelShouldReportTheFirstFailureTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().getFirst().getTopics().get(0);
+    Topic topicBar = topology.getProjects().getFirst().getTopics().get(1);
+    doThrow(new IOException("foo failed"))
+        .when(adminClient)
+        .createTopic(topicFoo, topicFoo.toString());
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+    assertThatThrownBy(() -> plan.run(false, 2))
+        .isInstanceOf(IOException.class)
+        .hasMessage("foo failed");
+    verify(adminClient, times(1)).createTopic(topicBar, topicBar.toString());
+  }
+
+  @Test
+  public void forkedPlansShouldBeAppendedInOrderTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().getFirst().getTopics().get(0);
+    Topic topicBar = topology.getProjects().getFirst().getTopics().get(1);
+    CreateTopicAction createFoo = new CreateTopicAction(adminClient, topicFoo, topicFoo.toString());
+    CreateTopicAction createBar = new CreateTopicAction(adminClient, topicBar, topicBar.toString());
+    ExecutionPlan first = plan.fork();
+    ExecutionPlan second = plan.fork();
+    second.add(createBar);
+    first.add(createFoo);
+
+    assertThat(plan.getActions()).isEmpty();
+    assertThat(first.getTopics()).isSameAs(plan.getTopics());
+
+    plan.addAll(first);
+    plan.addAll(second);
+    assertThat(plan.getActions()).containsExactly(createFoo, createBar);
+  }
+
   private Topology buildTopologyForTest() {
     Topology topology = new TopologyImpl();
     topology.setContext("context");
@@ -0,0 +1,97 @@
+package com.purbon.kafka.topology;
+
+import static com.purbon.kafka.topology.CommandLineInterface.*;
+import static com.purbon.kafka.topology.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.audit.VoidAuditor;
+import com.purbon.kafka.topology.backend.Backend;
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.quotas.QuotasManager;
+import com.purbon.kafka.topology.utils.TestUtils;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class JulieOpsDaemonTest {
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock AccessControlProvider accessControlProvider;
+  @Mock BindingsBuilderProvider bindingsBuilderProvider;
+  @Mock TopicManager topicManager;
+  @Mock AccessControlManager accessControlManager;
+  @Mock KafkaConnectArtefactManager connectorManager;
+  @Mock KSqlArtefactManager kSqlArtefactManager;
+  @Mock QuotasManager quotasManager;
+  @Mock Backend backend;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Test
+  public void shouldKeepTheBackendOpenBetweenAppliedReconciles() throws Exception {
+    String topologyFile = TestUtils.getResourceFilename("/descriptor.yaml");
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    cliOps.put(QUIET_OPTION, "true");
+    Properties props = new Properties();
+    props.put(CONFLUENT_SCHEMA_REGISTRY_URL_CONFIG, "http://foo:8082");
+    Configuration config = new Configuration(cliOps, props);
+    JulieOps julieOps =
+        JulieOps.build(
+            topologyFile, config, adminClient, accessControlProvider, bindingsBuilderProvider);
+    julieOps.setTopicManager(topicManager);
+    julieOps.setAccessControlManager(accessControlManager);
+    julieOps.setConnectorManager(connectorManager);
+    julieOps.setKSqlArtefactManager(kSqlArtefactManager);
+    julieOps.setQuotasManager(quotasManager);
+    when(backend.load()).thenReturn(new BackendState());
+    BackendController backendController = new BackendController(backend);
+    backendController.keepLoaded();
+    JulieOpsDaemon daemon =
+        new JulieOpsDaemon(
+            topologyFile, "default", julieOps, backendController, new VoidAuditor());
+
+    daemon.reconcile(true);
+    daemon.reconcile(true);
+
+    verify(backend, times(1)).load();
+    verify(backend, times(2)).save(any(BackendState.class));
+    verify(backend, never()).close();
+    daemon.close();
+    daemon.close();
+    verify(backend, times(1)).close();
+  }
+
+  @Test
+  public void shouldFindTheAddedRemovedAndModifiedFiles() {
+    Path unchanged = Paths.get("/topologies/a.yaml");
+    Path modified = Paths.get("/topologies/b.yaml");
+    Path removed = Paths.get("/topologies/c.yaml");
+    Path added = Paths.get("/topologies/d.yaml");
+    FileTime time = FileTime.fromMillis(1000);
+    Map<Path, List<Object>> before =
+        Map.of(
+            unchanged, List.of(time, 10L),
+            modified, List.of(time, 10L),
+            removed, List.of(time, 10L));
+    Map<Path, List<Object>> after =
+        Map.of(
+            unchanged, List.of(time, 10L),
+            modified, List.of(time, 12L),
+            added, List.of(time, 10L));
+
+    assertThat(JulieOpsDaemon.changedFiles(before, after))
+        .containsExactlyInAnyOrder(modified, removed, added);
+  }
+}
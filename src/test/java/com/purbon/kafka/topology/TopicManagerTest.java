@@ -147,6 +147,29 @@ public class TopicManagerTest {
     verify(adminClient, times(1)).deleteTopics(Collections.singletonList(topicCFullName));
   }
 
+  @Test
+  public void topicDeleteLimitedToThePlanScope() throws IOException {
+    Properties props = new Properties();
+    props.put(ALLOW_DELETE_TOPICS, true);
+    Configuration config = new Configuration(cliOps, props);
+    TopicManager topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
+    Topology topology = new TopologyImpl();
+    Project project = new ProjectImpl("project");
+    topology.addProject(project);
+    Topic topicA = new Topic("topicA");
+    project.addTopic(topicA);
+    topicManager.useScope(PlanScope.of(List.of(topology)));
+    String topicC = project.namePrefix() + "topicC";
+    String otherProjectTopic = "other.project.topicD";
+    Set<String> appTopics =
+        Stream.of(topicA.toString(), topicC, otherProjectTopic).collect(Collectors.toSet());
+    when(adminClient.listApplicationTopics()).thenReturn(appTopics);
+    doReturn(new Config(Collections.emptyList())).when(adminClient).getActualTopicConfig(any());
+    topicManager.updatePlan(topology, plan);
+    plan.run();
+    verify(adminClient, times(1)).deleteTopics(Collections.singletonList(topicC));
+  }
+
   @Test
   public void topicDeleteWithConfiguredInternalTopicsTest() throws IOException {
     cliOps = new HashMap<>();
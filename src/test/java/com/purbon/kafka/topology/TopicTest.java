@@ -100,4 +100,26 @@ public class TopicTest {
     String fullName = topic.toString();
     Assert.assertEquals("other.team.project.topic", fullName);
   }
+
+  @Test
+  public void customPatternNameFollowsTheChangesOfTheTopic() {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    cliOps.put(CLIENT_CONFIG_OPTION, "/fooBar");
+    Properties props = new Properties();
+    props.put(TOPIC_PREFIX_FORMAT_CONFIG, "{{context}}.{{project}}.{{topic}}");
+    Configuration config = new Configuration(cliOps, props);
+    Map<String, Object> context = new HashMap<>();
+    context.put("context", "team");
+    context.put("project", "project");
+    Topic topic = new Topic("topic", config);
+    topic.setContext(context);
+    Assert.assertEquals("team.project.topic", topic.toString());
+    Assert.assertEquals("team.project.topic", topic.toString());
+    topic.setName("other");
+    Assert.assertEquals("team.project.other", topic.toString());
+    // the context is shared with the project, and can change in place
+    context.put("project", "renamed");
+    Assert.assertEquals("team.renamed.other", topic.toString());
+  }
 }
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
@@ -13,13 +14,24 @@ import com.purbon.kafka.topology.model.users.Producer;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistry;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistryInstance;
 import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.roles.acls.AclsBindingsBuilder;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntryFilter;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.ClusterAuthorizationException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePatternFilter;
+import org.apache.kafka.common.resource.ResourceType;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -145,4 +157,61 @@ public class TopologyBuilderAdminClientTest {
     plan.run();
     verify(kafkaAdminClient, times(1)).createAcls(anyCollection());
   }
+
+  @Test
+  public void clearBindingsInBatches() throws IOException {
+    DeleteAclsResult deleteAclsResult = mock(DeleteAclsResult.class);
+    doReturn(Collections.emptyMap()).when(deleteAclsResult).values();
+    doReturn(deleteAclsResult).when(kafkaAdminClient).deleteAcls(anyCollection());
+    SimpleAclsProvider aclsProvider = new SimpleAclsProvider(adminClient, 2);
+    aclsProvider.clearBindings(
+        new HashSet<>(
+            Arrays.asList(
+                readBinding("User:foo", "topicA"),
+                readBinding("User:foo", "topicB"),
+                readBinding("User:bar", "topicA"))));
+    verify(kafkaAdminClient, times(2)).deleteAcls(anyCollection());
+  }
+
+  @Test
+  public void clearBindingsShouldReportPartialFailures() {
+    TopologyAclBinding failing = readBinding("User:foo", "topicA");
+    TopologyAclBinding succeeding = readBinding("User:foo", "topicB");
+    KafkaFutureImpl<DeleteAclsResult.FilterResults> failed = new KafkaFutureImpl<>();
+    failed.completeExceptionally(new ClusterAuthorizationException("not allowed"));
+    DeleteAclsResult.FilterResults filterResults = mock(DeleteAclsResult.FilterResults.class);
+    doReturn(Collections.emptyList()).when(filterResults).values();
+    Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results =
+        new LinkedHashMap<>();
+    results.put(asFilter(failing), failed);
+    results.put(asFilter(succeeding), KafkaFuture.completedFuture(filterResults));
+    DeleteAclsResult deleteAclsResult = mock(DeleteAclsResult.class);
+    doReturn(results).when(deleteAclsResult).values();
+    doReturn(deleteAclsResult).when(kafkaAdminClient).deleteAcls(anyCollection());
+
+    assertThatThrownBy(() -> adminClient.clearAcls(Arrays.asList(failing, succeeding)))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("1 of 2 bindings")
+        .hasCauseInstanceOf(ClusterAuthorizationException.class);
+    verify(kafkaAdminClient, times(1)).deleteAcls(anyCollection());
+  }
+
+  private TopologyAclBinding readBinding(String principal, String topic) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(),
+        topic,
+        "*",
+        AclOperation.READ.name(),
+        principal,
+        PatternType.LITERAL.name(),
+        AclPermissionType.ALLOW.name());
+  }
+
+  private AclBindingFilter asFilter(TopologyAclBinding binding) {
+    return new AclBindingFilter(
+        new ResourcePatternFilter(
+            ResourceType.TOPIC, binding.getResourceName(), PatternType.LITERAL),
+        new AccessControlEntryFilter(
+            binding.getPrincipal(), "*", AclOperation.READ, AclPermissionType.ANY));
+  }
 }
@@ -3,6 +3,7 @@ package com.purbon.kafka.topology;
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static com.purbon.kafka.topology.CommandLineInterface.RECURSIVE_OPTION;
 import static com.purbon.kafka.topology.Constants.JULIE_ENABLE_MULTIPLE_CONTEXT_PER_DIR;
+import static com.purbon.kafka.topology.Constants.JULIE_PARSING_PARALLELISM;
 import static com.purbon.kafka.topology.Constants.JULIE_PROJECT_NAMESPACE_ENABLED;
 import static com.purbon.kafka.topology.Constants.PLATFORM_SERVERS_CONNECT;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -264,4 +265,27 @@ public class TopologyObjectBuilderTest {
     final Topology topology = map.values().iterator().next();
     assertThat(topology.getProjects()).hasSize(4);
   }
+
+  @Test
+  public void shouldMergeInTheSameOrderWhateverTheParsingParallelism() throws IOException {
+    String fileOrDirPath = TestUtils.getResourceFilename("/dir_recursive");
+    List<String> sequential = projectNamesParsedWith(fileOrDirPath, 1);
+    List<String> parallel = projectNamesParsedWith(fileOrDirPath, 4);
+    assertThat(sequential).hasSize(4);
+    assertThat(parallel).containsExactlyElementsOf(sequential);
+  }
+
+  private List<String> projectNamesParsedWith(String fileOrDirPath, int parallelism)
+      throws IOException {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    cliOps.put(RECURSIVE_OPTION, "true");
+    var props = new Properties();
+    props.put(JULIE_PARSING_PARALLELISM, parallelism);
+    Configuration config = new Configuration(cliOps, props);
+    var map = TopologyObjectBuilder.build(fileOrDirPath, config);
+    return map.values().iterator().next().getProjects().stream()
+        .map(Project::getName)
+        .collect(Collectors.toList());
+  }
 }
@@ -30,10 +30,14 @@ import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class TopologySerdesTest {
 
+  @Rule public TemporaryFolder cacheFolder = new TemporaryFolder();
+
   private TopologySerdes parser;
 
   @Before
@@ -602,6 +606,34 @@ public class TopologySerdesTest {
     assertThat(topicFullNames).contains("bar");
   }
 
+  @Test
+  public void shouldParseUnchangedFilesFromTheCache() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_PARSING_CACHE_DIR, cacheFolder.getRoot().getAbsolutePath());
+    HashMap<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Configuration config = new Configuration(cliOps, props);
+
+    Topology parsed =
+        new TopologySerdes(config, new PlanMap())
+            .deserialise(TestUtils.getResourceFile("/descriptor.yaml"));
+    assertThat(cacheFolder.getRoot().list()).hasSize(1);
+
+    Topology cached =
+        new TopologySerdes(config, new PlanMap())
+            .deserialise(TestUtils.getResourceFile("/descriptor.yaml"));
+    assertThat(cacheFolder.getRoot().list()).hasSize(1);
+    assertThat(cached.getContext()).isEqualTo(parsed.getContext());
+    assertThat(cached.getProjects().stream().map(Project::namePrefix))
+        .containsExactlyElementsOf(
+            parsed.getProjects().stream().map(Project::namePrefix).collect(Collectors.toList()));
+    assertThat(cached.getProjects().getFirst().getTopics().stream().map(Topic::toString))
+        .containsExactlyElementsOf(
+            parsed.getProjects().getFirst().getTopics().stream()
+                .map(Topic::toString)
+                .collect(Collectors.toList()));
+  }
+
   private List<Project> buildProjects() {
     Project project = new ProjectImpl("project");
     project.setConsumers(buildConsumers());
@@ -4,10 +4,17 @@ import static com.purbon.kafka.topology.CommandLineInterface.*;
 import static com.purbon.kafka.topology.Constants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.purbon.kafka.topology.exceptions.ValidationException;
+import com.purbon.kafka.topology.model.Project;
+import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.model.Impl.ProjectImpl;
+import com.purbon.kafka.topology.model.Impl.TopologyImpl;
 import com.purbon.kafka.topology.serdes.TopologySerdes;
 import com.purbon.kafka.topology.utils.TestUtils;
+import com.purbon.kafka.topology.validation.TopicValidation;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -97,11 +104,65 @@ public class TopologyValidationTest {
     validator.validate(topology);
   }
 
+  @Test
+  public void testValidationsAreInstantiatedOncePerValidator() {
+    Topology topology = parser.deserialise(TestUtils.getResourceFile("/descriptor.yaml"));
+    Configuration config =
+        createTopologyBuilderConfig(
+            "com.purbon.kafka.topology.TopologyValidationTest$CountingValidation");
+    CountingValidation.instances.set(0);
+    TopologyValidator validator = new TopologyValidator(config);
+    assertThat(validator.validate(topology)).isEmpty();
+    assertThat(validator.validate(topology)).isEmpty();
+    assertThat(CountingValidation.instances.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testParallelValidationReportsTheErrorsInTopicOrder() {
+    Project project = new ProjectImpl("project");
+    for (int i = 0; i < 200; i++) {
+      project.addTopic(new Topic(String.format("topic-%03d", i)));
+    }
+    Topology topology = new TopologyImpl();
+    topology.addProject(project);
+    List<String> expected = project.getTopics().stream().map(Topic::getName).toList();
+    Configuration config =
+        createTopologyBuilderConfig(
+            4, "com.purbon.kafka.topology.TopologyValidationTest$RejectingValidation");
+    TopologyValidator validator = new TopologyValidator(config);
+    assertThat(validator.validate(topology)).containsExactlyElementsOf(expected);
+  }
+
+  public static class RejectingValidation implements TopicValidation {
+
+    @Override
+    public void valid(Topic topic) throws ValidationException {
+      throw new ValidationException(topic.getName());
+    }
+  }
+
+  public static class CountingValidation implements TopicValidation {
+
+    static final AtomicInteger instances = new AtomicInteger();
+
+    public CountingValidation() {
+      instances.incrementAndGet();
+    }
+
+    @Override
+    public void valid(Topic topic) {}
+  }
+
   private Configuration createTopologyBuilderConfig(String... validations) {
+    return createTopologyBuilderConfig(1, validations);
+  }
+
+  private Configuration createTopologyBuilderConfig(int parallelism, String... validations) {
     Map<String, String> cliOps = new HashMap<>();
     cliOps.put(BROKERS_OPTION, "");
     cliOps.put(CLIENT_CONFIG_OPTION, "/fooBar");
     Properties props = new Properties();
+    props.put(JULIE_VALIDATION_PARALLELISM, parallelism);
     props.put(TOPOLOGY_VALIDATIONS_CONFIG, Arrays.asList(validations));
     props.put(TOPOLOGY_VALIDATIONS_TOPIC_NAME_REGEXP, "[a-zA-Z0-9.-]*");
     return new Configuration(cliOps, props);
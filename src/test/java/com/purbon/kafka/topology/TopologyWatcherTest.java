@@ -0,0 +1,41 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TopologyWatcherTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldCallBackWhenADescriptorChanges() throws Exception {
+    File directory = folder.newFolder("topologies");
+    CountDownLatch changed = new CountDownLatch(1);
+    try (TopologyWatcher watcher =
+        new TopologyWatcher(directory.toPath(), false, 50, changed::countDown)) {
+      watcher.start();
+      Files.writeString(directory.toPath().resolve("descriptor.yaml"), "context: \"context\"");
+      assertThat(changed.await(30, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Test
+  public void shouldWatchTheSubDirectoriesWhenRecursive() throws Exception {
+    File directory = folder.newFolder("topologies");
+    File subDirectory = folder.newFolder("topologies", "team");
+    CountDownLatch changed = new CountDownLatch(1);
+    try (TopologyWatcher watcher =
+        new TopologyWatcher(directory.toPath(), true, 50, changed::countDown)) {
+      watcher.start();
+      Files.writeString(subDirectory.toPath().resolve("descriptor.yaml"), "context: \"context\"");
+      assertThat(changed.await(30, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+}
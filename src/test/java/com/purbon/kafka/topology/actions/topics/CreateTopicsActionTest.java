@@ -0,0 +1,73 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class CreateTopicsActionTest {
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock TopologyBuilderAdminClient otherAdminClient;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Test
+  public void shouldCoalesceAdjacentTopicCreationsUpToTheBatchSize() {
+    List<Action> plan =
+        Arrays.asList(
+            createTopic(adminClient, "topicA"),
+            createTopic(adminClient, "topicB"),
+            createTopic(adminClient, "topicC"),
+            updateTopic("topicD"),
+            createTopic(adminClient, "topicE"));
+
+    List<Action> coalesced = CreateTopicsAction.coalesce(plan, 2);
+
+    assertThat(coalesced).hasSize(4);
+    assertThat(((CreateTopicsAction) coalesced.get(0)).getTopics())
+        .containsExactly("topicA", "topicB");
+    assertThat(((CreateTopicAction) coalesced.get(1)).getTopic()).isEqualTo("topicC");
+    assertThat(coalesced.get(2)).isInstanceOf(UpdateTopicConfigAction.class);
+    assertThat(((CreateTopicAction) coalesced.get(3)).getTopic()).isEqualTo("topicE");
+  }
+
+  @Test
+  public void shouldNotCoalesceTopicCreationsOfDifferentClusters() {
+    List<Action> plan =
+        Arrays.asList(createTopic(adminClient, "topicA"), createTopic(otherAdminClient, "topicB"));
+
+    List<Action> coalesced = CreateTopicsAction.coalesce(plan, 100);
+
+    assertThat(coalesced).hasSize(2);
+    assertThat(coalesced).allMatch(action -> action instanceof CreateTopicAction);
+  }
+
+  @Test
+  public void shouldKeepTheRefsOfEveryTopic() {
+    CreateTopicAction createA = createTopic(adminClient, "topicA");
+    CreateTopicAction createB = createTopic(adminClient, "topicB");
+    CreateTopicsAction action =
+        new CreateTopicsAction(adminClient, Arrays.asList(createA, createB));
+
+    assertThat(action.refs()).hasSize(2);
+    assertThat(action.refs().get(0)).isEqualTo(createA.refs().getFirst());
+    assertThat(action.refs().get(1)).isEqualTo(createB.refs().getFirst());
+  }
+
+  private CreateTopicAction createTopic(TopologyBuilderAdminClient client, String name) {
+    return new CreateTopicAction(client, new Topic(name), name);
+  }
+
+  private UpdateTopicConfigAction updateTopic(String name) {
+    return new UpdateTopicConfigAction(adminClient, new TopicConfigUpdatePlan(new Topic(name)));
+  }
+}
@@ -1,10 +1,15 @@
 package com.purbon.kafka.topology.actions.topics.builders;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.purbon.kafka.topology.TopicManager;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.api.adminclient.TopicsClusterSnapshot;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topic;
 import java.io.IOException;
@@ -103,6 +108,35 @@ public class TopicConfigUpdatePlanBuilderTest {
     assertNewUpdatedAndDeletedCounts(plan, 0, 0, 0);
   }
 
+  @Test
+  public void shouldUseSnapshotWhenTopicIsPresent() throws IOException {
+    var snapshot =
+        new TopicsClusterSnapshot(
+            Collections.singletonMap(TOPIC_NAME, createAlreadyOverriddenRetentionConfig()),
+            Collections.singletonMap(TOPIC_NAME, 3));
+    var topic = createTopic(TopicManager.NUM_PARTITIONS, "5");
+    var plan =
+        new TopicConfigUpdatePlanBuilder(adminClient, snapshot)
+            .createTopicConfigUpdatePlan(topic, TOPIC_NAME);
+    assertNewUpdatedAndDeletedCounts(plan, 0, 0, 1);
+    assertTrue(plan.isUpdatePartitionCount());
+    verify(adminClient, never()).getActualTopicConfig(anyString());
+    verify(adminClient, never()).getPartitionCount(anyString());
+  }
+
+  @Test
+  public void shouldFallbackToAdminClientWhenTopicIsNotInSnapshot() throws IOException {
+    doReturn(createEmptyConfig()).when(adminClient).getActualTopicConfig(TOPIC_NAME);
+    doReturn(3).when(adminClient).getPartitionCount(TOPIC_NAME);
+    var topic = createTopic(TopicManager.NUM_PARTITIONS, "5");
+    var plan =
+        new TopicConfigUpdatePlanBuilder(adminClient, TopicsClusterSnapshot.empty())
+            .createTopicConfigUpdatePlan(topic, TOPIC_NAME);
+    assertTrue(plan.isUpdatePartitionCount());
+    verify(adminClient, times(1)).getActualTopicConfig(TOPIC_NAME);
+    verify(adminClient, times(1)).getPartitionCount(TOPIC_NAME);
+  }
+
   private TopicConfigUpdatePlan getTopicConfigUpdatePlan(Topic topic) {
     var builder = new TopicConfigUpdatePlanBuilder(adminClient);
     return builder.createTopicConfigUpdatePlan(topic, TOPIC_NAME);
@@ -78,4 +78,19 @@ public class JulieHttpClientTest {
                 aResponse().withHeader("Content-type", "text/plain").withBody("Hello world!")));
     assertThat(client.doGet("/some/thing").getStatus()).isEqualTo(200);
   }
+
+  @Test
+  public void shouldSendRequestsAsynchronously() throws Exception {
+    stubFor(
+        put(urlEqualTo("/some/thing"))
+            .willReturn(aResponse().withHeader("Retry-After", "1").withStatus(503)));
+    stubFor(get(urlEqualTo("/some/thing")).willReturn(aResponse().withBody("Hello world!")));
+
+    var put = client.doPutAsync("/some/thing", "{}");
+    var get = client.doGetAsync("/some/thing");
+
+    assertThat(get.get().getResponseAsString()).isEqualTo("Hello world!");
+    assertThat(put.get().getStatus()).isEqualTo(503);
+    assertThat(put.get().getHeader("Retry-After")).contains("1");
+  }
 }
@@ -181,5 +181,60 @@ public class CCloudApiTest {
         .thenReturn(response02);
     Set<ServiceAccount> accounts = apiClient.listServiceAccounts();
     assertThat(accounts).hasSize(2);
+    assertThat(accounts)
+        .extracting(ServiceAccount::getName)
+        .containsExactlyInAnyOrder("DeLorean_auto_repair", "MacFly");
+  }
+
+  @Test
+  public void listAclsShouldFollowEveryPage() throws IOException {
+    String url = "/kafka/v3/clusters/clusterId/acls";
+    String body01 =
+        "{\"kind\": \"KafkaAclDataList\","
+            + " \"metadata\": {\"self\": \"self\", \"next\": \"/next/page\"},"
+            + " \"data\": ["
+            + aclJson("foo")
+            + "]}";
+    String body02 =
+        "{\"kind\": \"KafkaAclDataList\","
+            + " \"metadata\": {\"self\": \"self\", \"next\": null},"
+            + " \"data\": ["
+            + aclJson("bar")
+            + ", "
+            + aclJson("zet")
+            + "]}";
+    when(httpClient.doGet(url)).thenReturn(new Response(null, 200, body01));
+    when(httpClient.doGet("/next/page")).thenReturn(new Response(null, 200, body02));
+
+    var acls = apiClient.listAcls("clusterId");
+
+    assertThat(acls)
+        .extracting(TopologyAclBinding::getResourceName)
+        .containsExactly("foo", "bar", "zet");
+    assertThat(acls.get(0))
+        .isEqualTo(
+            new TopologyAclBinding(
+                "TOPIC",
+                "foo",
+                "*",
+                "READ",
+                "User:sa-1",
+                "LITERAL",
+                AclPermissionType.ALLOW.name()));
+  }
+
+  private String aclJson(String resourceName) {
+    return "{\"kind\": \"KafkaAcl\","
+        + " \"metadata\": {\"self\": \"self\"},"
+        + " \"cluster_id\": \"clusterId\","
+        + " \"resource_type\": \"TOPIC\","
+        + " \"resource_name\": \""
+        + resourceName
+        + "\","
+        + " \"pattern_type\": \"LITERAL\","
+        + " \"principal\": \"User:sa-1\","
+        + " \"host\": \"*\","
+        + " \"operation\": \"READ\","
+        + " \"permission\": \"ALLOW\"}";
   }
 }
@@ -0,0 +1,74 @@
+package com.purbon.kafka.topology.api.ccloud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.model.cluster.ServiceAccountV1;
+import java.io.IOException;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ServiceAccountsCacheTest {
+
+  @Mock CCloudApi cCloudApi;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  private ServiceAccount foo;
+
+  @Before
+  public void before() throws IOException {
+    foo = new ServiceAccount("sa-foo", "User:foo", "description", "sa-foo");
+    doReturn(Set.of(foo)).when(cCloudApi).listServiceAccounts();
+    doReturn(Set.of(new ServiceAccountV1(1L, "email", "User:foo", "sa-foo")))
+        .when(cCloudApi)
+        .listServiceAccountsV1();
+  }
+
+  @Test
+  public void shouldListTheServiceAccountsOnce() throws IOException {
+    var cache = new ServiceAccountsCache(cCloudApi, 60000);
+
+    assertThat(cache.listServiceAccounts()).containsExactly(foo);
+    assertThat(cache.lookupTable()).containsEntry("User:foo", 1L);
+    assertThat(cache.lookupTable()).containsEntry("User:foo", 1L);
+
+    verify(cCloudApi, times(1)).listServiceAccounts();
+    verify(cCloudApi, times(1)).listServiceAccountsV1();
+  }
+
+  @Test
+  public void shouldApplyCreationsAndDeletions() throws IOException {
+    var cache = new ServiceAccountsCache(cCloudApi, 60000);
+    var bar = new ServiceAccount("sa-bar", "User:bar", "description", "sa-bar");
+
+    cache.lookupTable();
+    cache.added(bar);
+    assertThat(cache.listServiceAccounts()).containsExactlyInAnyOrder(foo, bar);
+    cache.removed(foo);
+    assertThat(cache.listServiceAccounts()).containsExactly(bar);
+    assertThat(cache.lookupTable()).isEmpty();
+
+    verify(cCloudApi, times(1)).listServiceAccounts();
+    // the numeric id of the created account is only known after listing the v1 accounts again
+    verify(cCloudApi, times(2)).listServiceAccountsV1();
+  }
+
+  @Test
+  public void shouldListAgainOnceExpired() throws IOException {
+    var cache = new ServiceAccountsCache(cCloudApi, 0);
+
+    cache.listServiceAccounts();
+    cache.listServiceAccounts();
+
+    verify(cCloudApi, times(2)).listServiceAccounts();
+  }
+}
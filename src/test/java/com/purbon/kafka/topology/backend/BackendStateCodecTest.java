@@ -0,0 +1,119 @@
+package com.purbon.kafka.topology.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.compress.Compression;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.RecordBatch;
+import org.apache.kafka.common.resource.ResourceType;
+import org.apache.kafka.common.utils.ByteBufferOutputStream;
+import org.junit.Test;
+
+public class BackendStateCodecTest {
+
+  @Test
+  public void shouldRoundTripWithEveryCompression() throws IOException {
+    BackendState state = buildBackendState();
+    for (CompressionType compression : CompressionType.values()) {
+      BackendStateCodec codec =
+          new BackendStateCodec(BackendStateCodec.Format.BINARY, compression, false);
+      byte[] bytes = codec.encode(state);
+
+      assertThat(BackendStateCodec.isBinary(bytes)).isTrue();
+      BackendState decoded = BackendStateCodec.decode(bytes);
+      assertThat(decoded.getTopics()).isEqualTo(state.getTopics());
+      assertThat(decoded.getBindings()).isEqualTo(state.getBindings());
+      assertThat(decoded.getAccounts()).isEqualTo(state.getAccounts());
+      assertThat(decoded.getConnectors()).isEqualTo(state.getConnectors());
+      assertThat(decoded.getKSqlStreams()).isEqualTo(state.getKSqlStreams());
+    }
+  }
+
+  @Test
+  public void shouldDecodeStatesCompressedByTheKafkaCodecs() throws IOException {
+    BackendState state = buildBackendState();
+    byte[] uncompressed =
+        new BackendStateCodec(BackendStateCodec.Format.BINARY, CompressionType.NONE, false)
+            .encode(state);
+    int headerSize = 6;
+    for (CompressionType compression : CompressionType.values()) {
+      // the states stored before the codecs were used directly
+      ByteBufferOutputStream buffer = new ByteBufferOutputStream(uncompressed.length);
+      buffer.write(Arrays.copyOf(uncompressed, headerSize - 1));
+      buffer.write((byte) compression.id);
+      try (OutputStream out =
+          Compression.of(compression)
+              .build()
+              .wrapForOutput(buffer, RecordBatch.CURRENT_MAGIC_VALUE)) {
+        out.write(uncompressed, headerSize, uncompressed.length - headerSize);
+      }
+      ByteBuffer result = buffer.buffer().flip();
+      byte[] bytes = new byte[result.remaining()];
+      result.get(bytes);
+
+      BackendState decoded = BackendStateCodec.decode(bytes);
+      assertThat(decoded.getTopics()).isEqualTo(state.getTopics());
+      assertThat(decoded.getBindings()).isEqualTo(state.getBindings());
+      assertThat(decoded.getAccounts()).isEqualTo(state.getAccounts());
+    }
+  }
+
+  @Test
+  public void shouldDecodeJsonState() throws IOException {
+    BackendState state = buildBackendState();
+    byte[] json = BackendStateCodec.json(true).encode(state);
+
+    assertThat(BackendStateCodec.isBinary(json)).isFalse();
+    assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo(state.asPrettyJson());
+    assertThat(BackendStateCodec.decode(json).getBindings()).isEqualTo(state.getBindings());
+  }
+
+  @Test
+  public void shouldBeSmallerThanJson() throws IOException {
+    BackendState state = buildBackendState();
+    byte[] json = BackendStateCodec.json(false).encode(state);
+    byte[] binary =
+        new BackendStateCodec(BackendStateCodec.Format.BINARY, CompressionType.NONE, false)
+            .encode(state);
+
+    assertThat(binary.length).isLessThan(json.length / 2);
+  }
+
+  private BackendState buildBackendState() {
+    List<TopologyAclBinding> bindings = new ArrayList<>();
+    List<String> topics = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      String topic = "context.project.topic-" + i;
+      topics.add(topic);
+      bindings.add(
+          TopologyAclBinding.build(
+              ResourceType.TOPIC.name(),
+              topic,
+              "*",
+              "READ",
+              "User:consumer-" + (i % 5),
+              "LITERAL",
+              AclPermissionType.ALLOW.name()));
+    }
+    BackendState state = new BackendState();
+    state.addTopics(topics);
+    state.addBindings(bindings);
+    state.addAccounts(List.of(new ServiceAccount("sa-1", "consumer-1", "Managed by JulieOps")));
+    state.addConnectors(
+        List.of(new KafkaConnectArtefact("connectors/sink.json", "connect", "sink", null)));
+    state.addKSqlStreams(List.of(new KsqlStreamArtefact("streams/s.sql", "ksql", "stream")));
+    return state;
+  }
+}
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.record.CompressionType;
 import org.apache.kafka.common.resource.ResourceType;
 import org.junit.After;
 import org.junit.Before;
@@ -70,6 +71,19 @@ public class FileBackendTest {
     assertThat(state.getAccounts()).hasSize(0);
   }
 
+  @Test
+  public void shouldLoadBinaryStateWhateverTheConfiguredFormat() throws IOException {
+    BackendState state = new BackendState();
+    state.addTopics(Arrays.asList("foo", "bar"));
+    byte[] binary =
+        new BackendStateCodec(BackendStateCodec.Format.BINARY, CompressionType.ZSTD, false)
+            .encode(state);
+    Files.write(Paths.get(STATE_FILE_NAME), binary);
+
+    BackendState recoveredState = backend.load();
+    assertThat(recoveredState.getTopics()).containsExactlyInAnyOrder("foo", "bar");
+  }
+
   private void verifyStoreAndLoadWithPrincipal(final String principal) throws IOException {
     TopologyAclBinding binding =
         TopologyAclBinding.build(
@@ -0,0 +1,58 @@
+package com.purbon.kafka.topology.backend;
+
+import static com.purbon.kafka.topology.CommandLineInterface.*;
+import static com.purbon.kafka.topology.Constants.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.backend.kafka.ByteArrayChunker;
+import com.purbon.kafka.topology.backend.kafka.KafkaBackendConsumer;
+import com.purbon.kafka.topology.backend.kafka.KafkaBackendProducer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class KafkaBackendTest {
+
+  @Mock Consumer<String, byte[]> kafkaConsumer;
+  @Mock KafkaBackendProducer producer;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Test
+  public void shouldSnapshotOnceTheIntervalIsCrossedWithoutLoadingAgain() throws Exception {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    cliOps.put(DRY_RUN_OPTION, "false");
+    Properties props = new Properties();
+    props.put(JULIE_KAFKA_STATE_DELTA_ENABLED, true);
+    props.put(JULIE_KAFKA_STATE_SNAPSHOT_INTERVAL, 3);
+    Configuration config = new Configuration(cliOps, props);
+    KafkaBackendConsumer consumer =
+        new KafkaBackendConsumer(config, new ByteArrayChunker(1024), kafkaConsumer);
+    when(producer.saveSnapshot(any(BackendState.class))).thenReturn(0L, 10L);
+    KafkaBackend backend = new KafkaBackend(config, consumer, producer);
+
+    // the saves of a daemon keeping the state loaded, one topic more every time
+    BackendState state = new BackendState();
+    for (int i = 0; i < 5; i++) {
+      state.addTopics(Collections.singleton("topic-" + i));
+      backend.save(state);
+    }
+
+    // a first snapshot, three deltas of one topic, then the interval is crossed
+    verify(producer, times(2)).saveSnapshot(any(BackendState.class));
+    verify(producer, times(3)).saveDelta(anyMap());
+  }
+}
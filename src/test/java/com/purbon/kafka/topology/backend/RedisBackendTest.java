@@ -10,13 +10,16 @@ import static org.mockito.Mockito.when;
 
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.record.CompressionType;
 import org.apache.kafka.common.resource.ResourceType;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -47,13 +50,31 @@ public class RedisBackendTest {
   @Test
   public void testDataLoading() throws IOException {
     BackendState mockedState = buildBackendState();
-    when(jedis.get(eq(bucket))).thenReturn(mockedState.asPrettyJson());
+    when(jedis.get(eq(bucket.getBytes(StandardCharsets.UTF_8))))
+        .thenReturn(mockedState.asPrettyJson().getBytes(StandardCharsets.UTF_8));
     BackendState state = stateProcessor.load();
     assertEquals(1, state.size());
     assertTrue(state.getBindings().iterator().hasNext());
     assertEquals("Topic A", state.getBindings().iterator().next().getResourceName());
   }
 
+  @Test
+  public void testBinaryStateRoundTrip() throws IOException {
+    BackendStateCodec codec =
+        new BackendStateCodec(BackendStateCodec.Format.BINARY, CompressionType.GZIP, false);
+    stateProcessor = new RedisBackend(jedis, bucket, codec);
+    BackendState state = buildBackendState();
+    stateProcessor.save(state);
+
+    ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+    verify(jedis, times(1)).set(eq(bucket.getBytes(StandardCharsets.UTF_8)), content.capture());
+    assertTrue(BackendStateCodec.isBinary(content.getValue()));
+
+    when(jedis.get(eq(bucket.getBytes(StandardCharsets.UTF_8)))).thenReturn(content.getValue());
+    BackendState recovered = stateProcessor.load();
+    assertEquals(state.getBindings(), recovered.getBindings());
+  }
+
   @NotNull
   private BackendState buildBackendState() {
     TopologyAclBinding binding =
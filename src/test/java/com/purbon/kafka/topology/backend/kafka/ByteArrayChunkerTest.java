@@ -26,6 +26,17 @@ public final class ByteArrayChunkerTest {
     }
   }
 
+  @Test
+  public void shouldDetectCompleteChunkSequences() {
+    final ByteArrayChunker chunker = new ByteArrayChunker(CHUNK_SIZE);
+    final List<byte[]> chunks = chunker.chunk(getRandomBytes(100));
+    for (int i = 1; i < chunks.size(); i++) {
+      Assert.assertFalse(chunker.isComplete(chunks.subList(0, i)));
+    }
+    Assert.assertTrue(chunker.isComplete(chunks));
+    Assert.assertFalse(chunker.isComplete(List.of()));
+  }
+
   private void testChunkDechunkWithMethodCall(final int numBytes, final int expectedChunks) {
     final ByteArrayChunker chunker = new ByteArrayChunker(CHUNK_SIZE);
     final byte[] bytes = getRandomBytes(numBytes);
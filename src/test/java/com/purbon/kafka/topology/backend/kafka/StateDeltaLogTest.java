@@ -0,0 +1,81 @@
+package com.purbon.kafka.topology.backend.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Test;
+
+public class StateDeltaLogTest {
+
+  private final StateDeltaLog deltaLog = new StateDeltaLog("1234");
+
+  @Test
+  public void shouldOnlyWriteAddedAndRemovedEntities() {
+    BackendState before = new BackendState();
+    before.addTopics(Arrays.asList("topicA", "topicB"));
+    before.addBindings(Collections.singleton(binding("topicA")));
+    BackendState after = new BackendState();
+    after.addTopics(Arrays.asList("topicB", "topicC"));
+    after.addBindings(Collections.singleton(binding("topicA")));
+
+    Map<String, byte[]> records = deltaLog.diff(before, after);
+
+    assertThat(records).hasSize(2);
+    assertThat(records).containsEntry("1234.delta.topic.\"topicA\"", StateDeltaLog.REMOVED);
+    assertThat(records).containsKey("1234.delta.topic.\"topicC\"");
+    assertThat(records.keySet()).allMatch(deltaLog::isDeltaKey);
+  }
+
+  @Test
+  public void shouldRebuildTheStateFromTheRecords() {
+    BackendState before = new BackendState();
+    before.addTopics(Arrays.asList("topicA", "topicB"));
+    before.addBindings(Arrays.asList(binding("topicA"), binding("topicB")));
+    before.addAccounts(Collections.singleton(new ServiceAccount("1", "User:foo", "foo")));
+    BackendState after = new BackendState();
+    after.addTopics(Collections.singleton("topicB"));
+    after.addBindings(Arrays.asList(binding("topicB"), binding("topicC")));
+
+    BackendState replayed = new BackendState();
+    deltaLog.diff(new BackendState(), before).forEach((k, v) -> deltaLog.apply(replayed, k, v));
+    deltaLog.diff(before, after).forEach((k, v) -> deltaLog.apply(replayed, k, v));
+
+    assertThat(replayed.getTopics()).containsExactlyInAnyOrderElementsOf(after.getTopics());
+    assertThat(replayed.getBindings()).containsExactlyInAnyOrderElementsOf(after.getBindings());
+    assertThat(replayed.getAccounts()).isEmpty();
+  }
+
+  @Test
+  public void shouldStillRemoveEntitiesOfTombstones() {
+    BackendState state = new BackendState();
+    state.addTopics(Arrays.asList("topicA", "topicB"));
+
+    deltaLog.apply(state, "1234.delta.topic.\"topicA\"", null);
+
+    assertThat(state.getTopics()).containsExactly("topicB");
+  }
+
+  @Test
+  public void shouldIgnoreKeysOfOtherInstances() {
+    assertThat(deltaLog.isDeltaKey("1234-000001")).isFalse();
+    assertThat(deltaLog.isDeltaKey("5678.delta.topic.\"topicA\"")).isFalse();
+  }
+
+  private TopologyAclBinding binding(String topic) {
+    return TopologyAclBinding.build(
+        ResourceType.TOPIC.name(),
+        topic,
+        "*",
+        "Read",
+        "User:foo",
+        "LITERAL",
+        AclPermissionType.ALLOW.name());
+  }
+}
@@ -0,0 +1,60 @@
+package com.purbon.kafka.topology.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import javax.net.ssl.SSLContext;
+import org.junit.Test;
+
+public class HttpClientPoolTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Test
+  public void shouldShareTheClientOfAHost() throws Exception {
+    HttpClient client = client("http://localhost:8083", "default");
+
+    assertThat(client("http://localhost:8083/connectors", "default")).isSameAs(client);
+    assertThat(client("http://localhost:8084", "default")).isNotSameAs(client);
+    assertThat(client("http://localhost:8083", "keystore.p12:truststore.p12"))
+        .isNotSameAs(client);
+    assertThat(client.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    assertThat(client.connectTimeout()).contains(TIMEOUT);
+    assertThat(client.executor()).isPresent();
+  }
+
+  @Test
+  public void shouldReplaceTheClientWhenTheStoresChange() throws Exception {
+    String tlsKey = "keystore.p12:truststore.p12";
+    HttpClient client = client("http://localhost:8085", tlsKey, "1:1");
+
+    assertThat(client("http://localhost:8085", tlsKey, "1:1")).isSameAs(client);
+    HttpClient rotated = client("http://localhost:8085", tlsKey, "2:1");
+    assertThat(rotated).isNotSameAs(client);
+    assertThat(client("http://localhost:8085", tlsKey, "2:1")).isSameAs(rotated);
+  }
+
+  private HttpClient client(String server, String tlsKey) throws IOException {
+    return client(server, tlsKey, "");
+  }
+
+  private HttpClient client(String server, String tlsKey, String tlsVersion) throws IOException {
+    return HttpClientPool.get(
+        server,
+        HttpClient.Version.HTTP_2,
+        TIMEOUT,
+        tlsKey,
+        tlsVersion,
+        HttpClientPoolTest::sslContext);
+  }
+
+  private static SSLContext sslContext() throws IOException {
+    try {
+      return SSLContext.getDefault();
+    } catch (Exception e) {
+      throw new IOException(e);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.purbon.kafka.topology.clients;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static com.purbon.kafka.topology.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.api.ccloud.CCloudApi;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RequestPipelineTest {
+
+  private static final String ACLS_URL = "/kafka/v3/clusters/clusterId/acls";
+
+  @Rule public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicPort());
+
+  private CCloudApi api;
+  private Configuration config;
+
+  @Before
+  public void before() throws IOException {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Properties props = new Properties();
+    props.put(CCLOUD_CLUSTER_API_KEY, "apiKey");
+    props.put(CCLOUD_CLUSTER_API_SECRET, "apiSecret");
+    props.put(CCLOUD_CLOUD_API_KEY, "apiKey");
+    props.put(CCLOUD_CLOUD_API_SECRET, "apiSecret");
+    props.put(CCLOUD_ACLS_REQUESTS_IN_FLIGHT, 4);
+    props.put(JULIE_HTTP_RETRY_TIMES, 3);
+    props.put(JULIE_HTTP_BACKOFF_TIME_MS, 0);
+    config = new Configuration(cliOps, props);
+    JulieHttpClient httpClient = new JulieHttpClient(wireMockRule.baseUrl(), Optional.of(config));
+    api = new CCloudApi(httpClient, Optional.of(httpClient), config);
+  }
+
+  @Test
+  public void shouldCreateEveryBinding() throws IOException {
+    stubFor(post(urlEqualTo(ACLS_URL)).willReturn(aResponse().withStatus(201)));
+    List<TopologyAclBinding> bindings =
+        Arrays.asList(binding("topicA"), binding("topicB"), binding("topicC"), binding("topicD"));
+
+    var results =
+        api.aclsRequestPipeline(config)
+            .run(bindings, binding -> api.createAclAsync("clusterId", binding));
+
+    assertThat(results.hasFailures()).isFalse();
+    assertThat(results.getSucceeded()).containsExactlyElementsOf(bindings);
+    verify(4, postRequestedFor(urlEqualTo(ACLS_URL)));
+  }
+
+  @Test
+  public void shouldRetryWhenThrottled() throws IOException {
+    stubFor(
+        post(urlEqualTo(ACLS_URL))
+            .inScenario("throttled")
+            .whenScenarioStateIs(STARTED)
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "0"))
+            .willSetStateTo("accepted"));
+    stubFor(
+        post(urlEqualTo(ACLS_URL))
+            .inScenario("throttled")
+            .whenScenarioStateIs("accepted")
+            .willReturn(aResponse().withStatus(201)));
+
+    var results =
+        api.aclsRequestPipeline(config)
+            .run(List.of(binding("topicA")), binding -> api.createAclAsync("clusterId", binding));
+
+    assertThat(results.hasFailures()).isFalse();
+    verify(2, postRequestedFor(urlEqualTo(ACLS_URL)));
+  }
+
+  @Test
+  public void shouldReportFailuresPerBinding() throws IOException {
+    stubFor(
+        delete(urlPathEqualTo(ACLS_URL))
+            .withQueryParam("resource_name", equalTo("topicA"))
+            .willReturn(aResponse().withStatus(200)));
+    stubFor(
+        delete(urlPathEqualTo(ACLS_URL))
+            .withQueryParam("resource_name", equalTo("topicB"))
+            .willReturn(aResponse().withStatus(400).withBody("bad request")));
+    TopologyAclBinding topicA = binding("topicA");
+    TopologyAclBinding topicB = binding("topicB");
+
+    var results =
+        api.aclsRequestPipeline(config)
+            .run(List.of(topicA, topicB), binding -> api.deleteAclsAsync("clusterId", binding));
+
+    assertThat(results.getSucceeded()).containsExactly(topicA);
+    assertThat(results.getFailed()).containsOnlyKeys(topicB);
+    assertThat(results.getFailed().get(topicB)).hasMessageContaining("400");
+  }
+
+  private TopologyAclBinding binding(String topic) {
+    return new TopologyAclBinding(
+        "TOPIC", topic, "*", "ALL", "User:foo", "LITERAL", AclPermissionType.ALLOW.name());
+  }
+}
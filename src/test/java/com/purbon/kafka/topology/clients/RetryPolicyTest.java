@@ -0,0 +1,86 @@
+package com.purbon.kafka.topology.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.Test;
+
+public class RetryPolicyTest {
+
+  @Test
+  public void shouldRetryThrottledAndServerErrorsOnly() {
+    RetryPolicy policy = new RetryPolicy(3, 100, 1000, 0, 0);
+
+    assertThat(policy.shouldRetry(429, 1)).isTrue();
+    assertThat(policy.shouldRetry(500, 1)).isTrue();
+    assertThat(policy.shouldRetry(503, 2)).isTrue();
+    assertThat(policy.shouldRetry(503, 3)).isFalse();
+    assertThat(policy.shouldRetry(400, 1)).isFalse();
+    assertThat(policy.shouldRetry(404, 1)).isFalse();
+  }
+
+  @Test
+  public void shouldBackoffExponentiallyWithJitter() {
+    RetryPolicy policy = new RetryPolicy(10, 100, 1000, 0, 0);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(policy.backoffMs(1)).isBetween(50L, 100L);
+      assertThat(policy.backoffMs(3)).isBetween(200L, 400L);
+      assertThat(policy.backoffMs(5)).isBetween(500L, 1000L);
+      assertThat(policy.backoffMs(100)).isBetween(500L, 1000L);
+    }
+    assertThat(new RetryPolicy(10, 0, 1000, 0, 0).backoffMs(4)).isZero();
+  }
+
+  @Test
+  public void shouldHonourTheRetryAfterHeader() {
+    RetryPolicy policy = new RetryPolicy(3, 100, 1000, 0, 0);
+
+    assertThat(policy.retryDelayMs(1, Optional.of("2"))).isEqualTo(2000L);
+    assertThat(policy.retryDelayMs(1, Optional.of("soon"))).isBetween(50L, 100L);
+    assertThat(RetryPolicy.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).contains(0L);
+  }
+
+  @Test
+  public void shouldOpenTheCircuitAfterConsecutiveFailures() throws InterruptedException {
+    CircuitBreaker breaker = new CircuitBreaker("localhost:1", 2, 50);
+
+    breaker.recordFailure();
+    breaker.recordSuccess();
+    breaker.recordFailure();
+    assertThat(breaker.allowRequest()).isTrue();
+    breaker.recordFailure();
+    assertThat(breaker.isOpen()).isTrue();
+    assertThat(breaker.allowRequest()).isFalse();
+
+    Thread.sleep(60);
+    // a single trial request once the circuit was open long enough
+    assertThat(breaker.allowRequest()).isTrue();
+    assertThat(breaker.allowRequest()).isFalse();
+    breaker.recordSuccess();
+    assertThat(breaker.allowRequest()).isTrue();
+  }
+
+  @Test
+  public void shouldShareTheCircuitOfAHostOnlyWithTheSameSettings() {
+    RetryPolicy policy = new RetryPolicy(3, 100, 1000, 2, 50);
+
+    CircuitBreaker breaker = policy.circuitBreaker("http://localhost:2/connectors");
+    assertThat(new RetryPolicy(1, 10, 100, 2, 50).circuitBreaker("http://localhost:2"))
+        .isSameAs(breaker);
+    assertThat(RetryPolicy.none().circuitBreaker("http://localhost:2")).isNotSameAs(breaker);
+  }
+
+  @Test
+  public void shouldResetTheCountersOnceLogged() {
+    RetryPolicy.Counters counters = RetryPolicy.none().counters("http://localhost:3");
+    counters.recordRequest();
+    counters.recordRetry(100);
+
+    RetryPolicy.logCounters();
+
+    assertThat(counters.getRequests()).isZero();
+    assertThat(counters.getRetries()).isZero();
+    assertThat(counters.getRetryDelayMs()).isZero();
+  }
+}
@@ -89,6 +89,36 @@ public class KafkaBackendIT {
     loadAndVerifyBindings(bindings3);
   }
 
+  @Test
+  public void testDeltaFlow() {
+    props.put(JULIE_KAFKA_STATE_DELTA_ENABLED, true);
+    config = new Configuration(cliOps, props);
+    TopologyAclBinding binding1 =
+        TopologyAclBinding.build(
+            ResourceType.TOPIC.name(),
+            "foo",
+            "*",
+            "Write",
+            "User:foo",
+            "LITERAL",
+            AclPermissionType.ALLOW.name());
+    TopologyAclBinding binding2 =
+        TopologyAclBinding.build(
+            ResourceType.TOPIC.name(),
+            "bar",
+            "*",
+            "Read",
+            "User:bar",
+            "LITERAL",
+            AclPermissionType.ALLOW.name());
+    loadAndSaveBindings(Collections.singleton(binding1));
+    loadAndVerifyBindings(Collections.singleton(binding1));
+    loadAndSaveBindings(Arrays.asList(binding1, binding2));
+    loadAndVerifyBindings(Arrays.asList(binding1, binding2));
+    loadAndSaveBindings(Collections.singleton(binding2));
+    loadAndVerifyBindings(Collections.singleton(binding2));
+  }
+
   @Test
   public void shouldFailOnNonCompactingStateTopic() {
     String wrongTopic = "__state_with_wrong_cleanup_policy";
@@ -138,6 +168,16 @@ public class KafkaBackendIT {
     backend.close();
   }
 
+  private void loadAndSaveBindings(Collection<TopologyAclBinding> bindings) {
+    KafkaBackend backend = new KafkaBackend();
+    backend.configure(config);
+    BackendState state = backend.load();
+    state.clear();
+    state.addBindings(bindings);
+    backend.save(state);
+    backend.close();
+  }
+
   private void loadAndVerifyBindings(Collection<TopologyAclBinding> expectedBindings) {
     KafkaBackend backend = new KafkaBackend();
     HashMap<String, String> cliOps = new HashMap<>();
@@ -0,0 +1,59 @@
+package com.purbon.kafka.topology.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class AclBindingsDiffTest {
+
+  @Test
+  public void shouldSplitBindingsToCreateDeleteAndKeep() {
+    TopologyAclBinding kept = binding("topicA", "User:app");
+    TopologyAclBinding created = binding("topicB", "User:app");
+    TopologyAclBinding deleted = binding("topicC", "User:app");
+
+    AclBindingsDiff diff =
+        AclBindingsDiff.compute(
+            Stream.of(created, kept, null, created), Set.of(kept, deleted), b -> true, b -> true);
+
+    assertThat(diff.getToCreate()).containsExactly(created);
+    assertThat(diff.getToDelete()).containsExactly(deleted);
+    assertThat(diff.getUnchanged()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldOnlyConsiderTheSelectedBindings() {
+    TopologyAclBinding managed = binding("managed.topic", "User:app");
+    TopologyAclBinding unmanaged = binding("other.topic", "User:app");
+    TopologyAclBinding internal = binding("managed.internal", "User:julie");
+
+    AclBindingsDiff diff =
+        AclBindingsDiff.compute(
+            Stream.of(managed, unmanaged),
+            Set.of(unmanaged, internal),
+            b -> !b.getPrincipal().equals("User:julie"),
+            b -> b.getResourceName().startsWith("managed"));
+
+    assertThat(diff.getToCreate()).containsExactly(managed);
+    assertThat(diff.getToDelete()).isEmpty();
+    assertThat(diff.getUnchanged()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReturnSortedBindings() {
+    TopologyAclBinding first = binding("topicA", "User:app");
+    TopologyAclBinding second = binding("topicB", "User:app");
+    TopologyAclBinding third = binding("topicB", "User:other");
+
+    AclBindingsDiff diff =
+        AclBindingsDiff.compute(Stream.of(third, first, second), Set.of(), b -> true, b -> true);
+
+    assertThat(diff.getToCreate()).containsExactly(first, second, third);
+  }
+
+  private TopologyAclBinding binding(String topic, String principal) {
+    return TopologyAclBinding.build("TOPIC", topic, "*", "READ", principal, "LITERAL", "ALLOW");
+  }
+}
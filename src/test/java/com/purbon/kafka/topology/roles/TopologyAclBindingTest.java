@@ -0,0 +1,78 @@
+package com.purbon.kafka.topology.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Test;
+
+public class TopologyAclBindingTest {
+
+  @Test
+  public void shouldBeEqualToTheSameBindingFromKafka() {
+    TopologyAclBinding binding =
+        TopologyAclBinding.build("TOPIC", "foo", "*", "READ", "User:app", "LITERAL", "ALLOW");
+    TopologyAclBinding fromKafka =
+        new TopologyAclBinding(
+            new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "foo", PatternType.LITERAL),
+                new AccessControlEntry(
+                    "User:app", "*", AclOperation.READ, AclPermissionType.ALLOW)));
+
+    assertThat(fromKafka).isEqualTo(binding);
+    assertThat(fromKafka.hashCode()).isEqualTo(binding.hashCode());
+    assertThat(fromKafka.getPrincipal()).isSameAs(binding.getPrincipal());
+    assertThat(fromKafka.compareTo(binding)).isZero();
+  }
+
+  @Test
+  public void shouldKeepValuesOutsideOfTheKafkaEnums() {
+    TopologyAclBinding binding =
+        new TopologyAclBinding("CLUSTER", "kafka-cluster", "host", "op", "User:app", "any", "");
+
+    assertThat(binding.getOperation()).isEqualTo("op");
+    assertThat(binding.getPattern()).isEqualTo("any");
+    assertThat(binding.getPermissionType()).isEqualTo("ALLOW");
+    assertThat(binding)
+        .isNotEqualTo(
+            new TopologyAclBinding(
+                "CLUSTER", "kafka-cluster", "host", "op2", "User:app", "any", ""));
+  }
+
+  @Test
+  public void shouldCompareFieldByField() {
+    TopologyAclBinding groupBinding =
+        TopologyAclBinding.build("GROUP", "foo", "*", "READ", "User:app", "LITERAL", "ALLOW");
+    TopologyAclBinding topicA =
+        TopologyAclBinding.build("TOPIC", "a", "*", "WRITE", "User:app", "LITERAL", "ALLOW");
+    TopologyAclBinding topicB =
+        TopologyAclBinding.build("TOPIC", "b", "*", "READ", "User:app", "LITERAL", "ALLOW");
+    List<TopologyAclBinding> bindings = new ArrayList<>(List.of(topicB, groupBinding, topicA));
+
+    Collections.sort(bindings);
+
+    assertThat(bindings).containsExactly(groupBinding, topicA, topicB);
+  }
+
+  @Test
+  public void shouldRoundTripThroughJson() throws IOException {
+    TopologyAclBinding binding =
+        TopologyAclBinding.build("TOPIC", "foo", "*", "READ", "User:app", "PREFIXED", "DENY");
+
+    String json = JSON.asString(binding);
+    TopologyAclBinding read = (TopologyAclBinding) JSON.toObject(json, TopologyAclBinding.class);
+
+    assertThat(read).isEqualTo(binding);
+    assertThat(read.getPermissionType()).isEqualTo("DENY");
+  }
+}
@@ -1,6 +1,8 @@
 package com.purbon.kafka.topology.schemas;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -22,9 +24,11 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -43,6 +47,7 @@ public class SchemaRegistryManagerTest {
   private Path rootDir;
 
   @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
   @Before
   public void before() {
@@ -105,6 +110,65 @@ public class SchemaRegistryManagerTest {
     verify(managerSpy, times(1)).register(subjectName, mayBeAbsolutePath, AvroSchema.TYPE);
   }
 
+  @Test
+  public void shouldSkipSubjectsAlreadySynced() throws Exception {
+    SchemaRegistryClient clientSpy = Mockito.spy(client);
+    manager = new SchemaRegistryManager(clientSpy, rootDir.toString());
+    Optional<String> compatibility = Optional.of("FORWARD");
+
+    assertThat(manager.isUpToDate(subjectName, "schemas/bar-value.avsc", "AVRO", compatibility))
+        .isFalse();
+    manager.sync(subjectName, "schemas/bar-value.avsc", "AVRO", compatibility);
+    manager.sync(subjectName, "schemas/bar-value.avsc", "AVRO", compatibility);
+
+    assertThat(manager.isUpToDate(subjectName, "schemas/bar-value.avsc", "AVRO", compatibility))
+        .isTrue();
+    assertThat(client.getAllVersions(subjectName)).containsExactly(1);
+    assertThat(client.getCompatibility(subjectName)).isEqualTo("FORWARD");
+    verify(clientSpy, times(1)).register(eq(subjectName), any(ParsedSchema.class));
+    verify(clientSpy, times(1)).updateCompatibility(subjectName, "FORWARD");
+  }
+
+  @Test
+  public void shouldNotRegisterSchemasTheRegistryAlreadyHas() throws Exception {
+    manager.register(subjectName, "schemas/bar-value.avsc", AvroSchema.TYPE);
+    SchemaRegistryClient clientSpy = Mockito.spy(client);
+    manager = new SchemaRegistryManager(clientSpy, rootDir.toString());
+
+    manager.sync(subjectName, "schemas/bar-value.avsc", "AVRO", Optional.empty());
+
+    verify(clientSpy, times(0)).register(eq(subjectName), any(ParsedSchema.class));
+  }
+
+  @Test
+  public void shouldKeepTheFingerprintsInALocalFile() throws Exception {
+    Path file = temporaryFolder.getRoot().toPath().resolve("fingerprints");
+    String url = "http://registry:8081";
+    manager =
+        new SchemaRegistryManager(
+            client, rootDir.toString(), new SchemaFingerprints(Optional.of(file), url));
+    manager.sync(subjectName, "schemas/bar-value.avsc", "AVRO", Optional.empty());
+    manager.flushFingerprints();
+
+    var reloaded =
+        new SchemaRegistryManager(
+            client, rootDir.toString(), new SchemaFingerprints(Optional.of(file), url));
+    var otherRegistry =
+        new SchemaRegistryManager(
+            client,
+            rootDir.toString(),
+            new SchemaFingerprints(Optional.of(file), "http://other:8081"));
+
+    assertThat(reloaded.isUpToDate(subjectName, "schemas/bar-value.avsc", "AVRO", Optional.empty()))
+        .isTrue();
+    assertThat(reloaded.isUpToDate(subjectName, "schemas/bar-key.avsc", "AVRO", Optional.empty()))
+        .isFalse();
+    assertThat(
+            otherRegistry.isUpToDate(
+                subjectName, "schemas/bar-value.avsc", "AVRO", Optional.empty()))
+        .isFalse();
+  }
+
   @Test
   public void shouldRegisterAndUpdateAvroSchema() throws Exception {
     Path schemaFilePath =
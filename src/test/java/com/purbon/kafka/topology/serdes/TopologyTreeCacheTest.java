@@ -0,0 +1,57 @@
+package com.purbon.kafka.topology.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TopologyTreeCacheTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldKeepAtMostMaxEntries() throws Exception {
+    Path directory = folder.newFolder("cache").toPath();
+    TopologyTreeCache cache = new TopologyTreeCache(directory, 2);
+    ObjectMapper parser = new ObjectMapper();
+
+    for (String context : new String[] {"a", "b", "c"}) {
+      File descriptor = folder.newFile(context + ".json");
+      Files.writeString(descriptor.toPath(), "{\"context\": \"" + context + "\"}");
+      JsonNode tree = cache.readTree(descriptor, parser);
+      assertThat(tree.get("context").asText()).isEqualTo(context);
+    }
+
+    try (Stream<Path> entries = Files.list(directory)) {
+      assertThat(entries.filter(path -> path.toString().endsWith(".smile"))).hasSize(2);
+    }
+  }
+
+  @Test
+  public void shouldKeepAtMostMaxEntriesAcrossTheCachesOfADirectory() throws Exception {
+    Path directory = folder.newFolder("shared").toPath();
+    // one cache for each parsing thread
+    TopologyTreeCache[] caches = {
+      new TopologyTreeCache(directory, 2), new TopologyTreeCache(directory, 2)
+    };
+    ObjectMapper parser = new ObjectMapper();
+
+    String[] contexts = {"a", "b", "c", "d", "e"};
+    for (int i = 0; i < contexts.length; i++) {
+      File descriptor = folder.newFile(contexts[i] + ".json");
+      Files.writeString(descriptor.toPath(), "{\"context\": \"" + contexts[i] + "\"}");
+      caches[i % 2].readTree(descriptor, parser);
+    }
+
+    try (Stream<Path> entries = Files.list(directory)) {
+      assertThat(entries.filter(path -> path.toString().endsWith(".smile"))).hasSize(2);
+    }
+  }
+}
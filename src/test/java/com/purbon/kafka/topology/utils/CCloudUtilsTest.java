@@ -7,6 +7,7 @@ import static org.mockito.Mockito.doThrow;
 
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.ccloud.CCloudApi;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountsCache;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.model.cluster.ServiceAccountV1;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
@@ -62,7 +63,7 @@ public class CCloudUtilsTest {
     var accountsV1 = new HashSet<>();
     accountsV1.add(new ServiceAccountV1(12345L, "email", serviceName, resourceId));
     doReturn(accountsV1).when(cCloudApi).listServiceAccountsV1();
-    var lookupTable = utils.initializeLookupTable(cCloudApi);
+    var lookupTable = new ServiceAccountsCache(cCloudApi, 0).lookupTable();
     TopologyAclBinding binding =
         TopologyAclBinding.build(
             ResourceType.CLUSTER.name(),
@@ -78,9 +79,7 @@ public class CCloudUtilsTest {
 
   @Test(expected = IOException.class)
   public void translationShouldBeAbortedIfErrors() throws IOException {
-    Configuration config = new Configuration(cliOps, props);
-    var utils = new CCloudUtils(config);
     doThrow(new IOException()).when(cCloudApi).listServiceAccounts();
-    utils.initializeLookupTable(cCloudApi);
+    new ServiceAccountsCache(cCloudApi, 0).lookupTable();
   }
 }
@@ -0,0 +1,55 @@
+package com.purbon.kafka.topology.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class PrefixMatcherTest {
+
+  @Test
+  public void shouldMatchEverythingWithoutPrefixes() {
+    PrefixMatcher matcher = new PrefixMatcher(Collections.emptyList());
+    assertThat(matcher.isEmpty()).isTrue();
+    assertThat(matcher.matches("anything")).isTrue();
+  }
+
+  @Test
+  public void shouldMatchNamesStartingWithAPrefix() {
+    PrefixMatcher matcher = new PrefixMatcher(List.of("team-b.", "team-a.", "team-a.sub.", "x"));
+    assertThat(matcher.matches("team-a.topic")).isTrue();
+    assertThat(matcher.matches("team-a.sub.topic")).isTrue();
+    assertThat(matcher.matches("team-b.")).isTrue();
+    assertThat(matcher.matches("xylophone")).isTrue();
+    assertThat(matcher.matches("team-a")).isFalse();
+    assertThat(matcher.matches("team-c.topic")).isFalse();
+    assertThat(matcher.matches("")).isFalse();
+    assertThat(matcher.toString()).isEqualTo("[team-b., team-a., team-a.sub., x]");
+  }
+
+  @Test
+  public void shouldAgreeWithALinearScan() {
+    Random random = new Random(7);
+    List<String> prefixes = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      prefixes.add(randomName(random, 1 + random.nextInt(4)));
+    }
+    PrefixMatcher matcher = new PrefixMatcher(prefixes);
+    for (int i = 0; i < 10000; i++) {
+      String name = randomName(random, random.nextInt(8));
+      boolean expected = prefixes.stream().anyMatch(name::startsWith);
+      assertThat(matcher.matches(name)).as(name).isEqualTo(expected);
+    }
+  }
+
+  private String randomName(Random random, int length) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      sb.append((char) ('a' + random.nextInt(4)));
+    }
+    return sb.toString();
+  }
+}